@@ -0,0 +1,103 @@
+package com.hologramsciences;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *
+ *  Throughput of CSVRestaurantService.getOpenRestaurants in every index mode, over a catalog of the bundled
+ *  restaurants repeated up to the given size, at random ticks of the week.
+ *
+ *  main runs the benchmark once per thread count from 1 to jmh.maxThreads, the number of processors by default, so
+ *  the modes can be compared as threads contend for the snapshot and the parallel scan's pool. Other arguments go to
+ *  JMH as usual, for instance:
+ *
+ *   mvn -P jmh test-compile exec:exec -Djmh.maxThreads=4 -Djmh.args="-f 1 -wi 3 -i 5"
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenRestaurantsBenchmark {
+    private static final int QUERIES_PER_THREAD = 1024;
+
+    @Param({"SCAN", "PARALLEL_SCAN", "INTERVAL_TREE", "OPEN_SET_BITMAP"})
+    public CSVRestaurantService.IndexMode indexMode;
+
+    // twice CSVRestaurantService.PARALLEL_THRESHOLD, so PARALLEL_SCAN splits the scan
+    @Param({"65536"})
+    public int restaurants;
+
+    private CSVRestaurantService service;
+
+    @State(Scope.Thread)
+    public static class Queries {
+        private final DayOfWeek[] dayOfWeeks = new DayOfWeek[QUERIES_PER_THREAD];
+        private final LocalTime[] localTimes = new LocalTime[QUERIES_PER_THREAD];
+        private int next = 0;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Random random = new Random(Thread.currentThread().getId());
+            for (int i = 0; i < QUERIES_PER_THREAD; i++) {
+                final int tick = random.nextInt(WeekTicks.TICKS_PER_WEEK);
+                dayOfWeeks[i] = WeekTicks.dayOfWeek(tick);
+                localTimes[i] = WeekTicks.localTime(tick);
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final RestaurantStore bundled = new CSVRestaurantService(CSVRestaurantService.IndexMode.SCAN).getRestaurantStore();
+        final RestaurantStore.Builder builder = new RestaurantStore.Builder();
+        while (builder.size() < restaurants) {
+            builder.addAll(bundled);
+        }
+        service = new CSVRestaurantService(builder.build(), indexMode);
+    }
+
+    @Benchmark
+    public List<Restaurant> getOpenRestaurants(final Queries queries) {
+        final int i = queries.next++ & (QUERIES_PER_THREAD - 1);
+        return service.getOpenRestaurants(queries.dayOfWeeks[i], queries.localTimes[i]);
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        final int maxThreadsProperty = Integer.getInteger("jmh.maxThreads", 0);
+        final int maxThreads = maxThreadsProperty > 0 ? maxThreadsProperty : Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads++) {
+            new Runner(new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .include(OpenRestaurantsBenchmark.class.getName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+}
@@ -1,11 +1,25 @@
 package com.hologramsciences;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoField;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -16,7 +30,101 @@ import org.apache.commons.csv.CSVRecord;
 import io.atlassian.fugue.Option;
 
 public class CSVRestaurantService {
-    private final List<Restaurant> restaurantList;
+    /**
+     *  Below this many restaurants, or open restaurants to create, splitting the work over the ForkJoinPool costs more than it saves.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    private final IndexMode indexMode;
+
+    /**
+     *  Replaced as a whole on reload, so readers see either the old or the new restaurants with their index, never a mix.
+     */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     *  Held while a reload loads and indexes, so reloads publish in the order they started and an older load never
+     *  replaces a newer one. Readers never take it.
+     */
+    private final Object reloadLock = new Object();
+
+    private static class Snapshot {
+        private final RestaurantStore restaurantStore;
+        private final OpenRestaurantIndex openRestaurantIndex;
+        private final IndexStats indexStats;
+
+        // built on the first batch query, racing builds create equal sweeps
+        private volatile OpenHoursSweep openHoursSweep;
+
+        private Snapshot(final RestaurantStore restaurantStore, final IndexMode indexMode) {
+            this.restaurantStore = restaurantStore;
+
+            final long buildStart = System.nanoTime();
+            this.openRestaurantIndex = indexMode.build(restaurantStore);
+            this.indexStats = new IndexStats(indexMode, System.nanoTime() - buildStart, openRestaurantIndex.estimatedSizeInBytes());
+        }
+
+        private OpenHoursSweep openHoursSweep() {
+            if (openHoursSweep == null) {
+                openHoursSweep = new OpenHoursSweep(restaurantStore, openRestaurantIndex);
+            }
+            return openHoursSweep;
+        }
+    }
+
+    /**
+     *  How getOpenRestaurants finds open restaurants, trading build time and memory against query time.
+     *  PARALLEL_SCAN is SCAN on all cores for catalogs of at least PARALLEL_THRESHOLD restaurants.
+     */
+    public enum IndexMode {
+        SCAN(OpenHoursScan::new),
+        PARALLEL_SCAN(restaurants -> new OpenHoursScan(restaurants, PARALLEL_THRESHOLD)),
+        INTERVAL_TREE(OpenHoursIntervalTree::new),
+        OPEN_SET_BITMAP(OpenSetBitmapIndex::new);
+
+        private final Function<RestaurantStore, OpenRestaurantIndex> factory;
+
+        IndexMode(final Function<RestaurantStore, OpenRestaurantIndex> factory) {
+            this.factory = factory;
+        }
+
+        public OpenRestaurantIndex build(final RestaurantStore restaurants) {
+            return factory.apply(restaurants);
+        }
+    }
+
+    public static class IndexStats {
+        private final IndexMode indexMode;
+        private final long buildTimeNanos;
+        private final long estimatedSizeInBytes;
+
+        public IndexStats(final IndexMode indexMode, final long buildTimeNanos, final long estimatedSizeInBytes) {
+            this.indexMode = indexMode;
+            this.buildTimeNanos = buildTimeNanos;
+            this.estimatedSizeInBytes = estimatedSizeInBytes;
+        }
+
+        public IndexMode getIndexMode() {
+            return indexMode;
+        }
+
+        public long getBuildTimeNanos() {
+            return buildTimeNanos;
+        }
+
+        public long getEstimatedSizeInBytes() {
+            return estimatedSizeInBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "IndexStats{" +
+                    "indexMode=" + indexMode +
+                    ", buildTimeNanos=" + buildTimeNanos +
+                    ", estimatedSizeInBytes=" + estimatedSizeInBytes +
+                    '}';
+        }
+    }
 
     /**
      * TODO: Implement Me
@@ -100,11 +208,118 @@ public class CSVRestaurantService {
     }
 
     public CSVRestaurantService() throws IOException {
-        this.restaurantList = ResourceLoader.parseOptionCSV("rest_hours.csv", CSVRestaurantService::parse);
+        this(IndexMode.INTERVAL_TREE);
     }
 
+    public CSVRestaurantService(final IndexMode indexMode) throws IOException {
+        this(RestHoursParser.parse(ResourceLoader.readResourceAsCharBuffer("rest_hours.csv")), indexMode);
+    }
+
+    /**
+     *  Loads a rest_hours file from the filesystem instead of the bundled resource, see RestHoursParser.parseFile.
+     */
+    public CSVRestaurantService(final Path restHoursFile, final IndexMode indexMode) throws IOException {
+        this(RestHoursParser.parseFile(restHoursFile), indexMode);
+    }
+
+    public CSVRestaurantService(final RestaurantStore restaurantStore, final IndexMode indexMode) {
+        this.indexMode = indexMode;
+        this.snapshot.set(new Snapshot(restaurantStore, indexMode));
+    }
+
+    /**
+     *  Read only view of the current restaurants, later reloads do not change it.
+     */
     public List<Restaurant> getAllRestaurants() {
-        return restaurantList;
+        return snapshot.get().restaurantStore.asList();
+    }
+
+    public RestaurantStore getRestaurantStore() {
+        return snapshot.get().restaurantStore;
+    }
+
+    public IndexStats getIndexStats() {
+        return snapshot.get().indexStats;
+    }
+
+    /**
+     *  Builds the index for the new restaurants on the calling thread, then swaps them in. Readers are never blocked,
+     *  concurrent reloads run one after the other.
+     */
+    public IndexStats reload(final RestaurantStore restaurantStore) {
+        synchronized (reloadLock) {
+            final Snapshot reloaded = new Snapshot(restaurantStore, indexMode);
+            snapshot.set(reloaded);
+            return reloaded.indexStats;
+        }
+    }
+
+    /**
+     *  Reads rest_hours content from the stream, which is left open.
+     */
+    public IndexStats reload(final InputStream restHours) throws IOException {
+        synchronized (reloadLock) {
+            return reload(RestHoursParser.parse(ResourceLoader.readAsCharBuffer(restHours)));
+        }
+    }
+
+    /**
+     *  Loads and indexes the new restaurants on the executor, the current ones keep being served until the swap.
+     *  If loading fails nothing is swapped and the future completes exceptionally.
+     */
+    public CompletableFuture<IndexStats> reloadAsync(final Callable<RestaurantStore> loader, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                synchronized (reloadLock) {
+                    return reload(loader.call());
+                }
+            } catch (final Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     *
+     *  Reloads from the file whenever it is created or modified, until the returned handle is closed.
+     *
+     *  Write new versions to a temporary file and move them into place, otherwise a reload may see a partly written file.
+     *  A file that fails to load is passed to onFailure on the watcher thread and the current restaurants stay in place.
+     *
+     */
+    public Closeable watch(final Path restHoursFile, final Consumer<? super Exception> onFailure) throws IOException {
+        final Path file = restHoursFile.toAbsolutePath();
+        final WatchService watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        final Thread watcher = new Thread(() -> {
+            try {
+                while (true) {
+                    final WatchKey key = watchService.take();
+                    boolean changed = false;
+                    for (final WatchEvent<?> event : key.pollEvents()) {
+                        changed |= file.getFileName().equals(event.context());
+                    }
+                    key.reset();
+
+                    if (changed) {
+                        try {
+                            synchronized (reloadLock) {
+                                reload(RestHoursParser.parseFile(file));
+                            }
+                        } catch (final IOException | RuntimeException e) {
+                            onFailure.accept(e);
+                        }
+                    }
+                }
+            } catch (final InterruptedException | ClosedWatchServiceException e) {
+                // closed, stop watching
+            }
+        }, "rest-hours-watcher-" + file.getFileName());
+        watcher.setDaemon(true);
+        watcher.start();
+
+        return watchService;
     }
 
     /**
@@ -131,36 +346,69 @@ public class CSVRestaurantService {
      *  (SUNDAY, 03:00)   => open = true
      *  (SUNDAY, 05:00)   => open = false
      *
+     *  Answered by the OpenRestaurantIndex of the IndexMode, results are in the order of getAllRestaurants.
+     *
+     *  Safe to call from any number of threads: a query reads one immutable snapshot and shares nothing else.
+     *  With PARALLEL_SCAN, at least PARALLEL_THRESHOLD open restaurants are created in parallel.
+     *
      */
     public List<Restaurant> getOpenRestaurants(final DayOfWeek dayOfWeek, final LocalTime localTime) {
-        final List<Restaurant> restaurants = getAllRestaurants();
-        if (restaurants == null || restaurants.isEmpty()) {
+        final Snapshot current = snapshot.get();
+        if (current.restaurantStore.size() == 0) {
             return Collections.emptyList();
         }
-        return restaurants.stream().filter(restaurant -> isRestaurantOpen(dayOfWeek, localTime, restaurant)).collect(Collectors.toList());
+        final int[] openOrdinals = current.openRestaurantIndex.openOrdinals(WeekTicks.of(dayOfWeek, localTime));
+        if (indexMode == IndexMode.PARALLEL_SCAN && openOrdinals.length >= PARALLEL_THRESHOLD) {
+            return Arrays.stream(openOrdinals).parallel().mapToObj(current.restaurantStore::get).collect(Collectors.toList());
+        }
+        final List<Restaurant> openRestaurants = new ArrayList<>(openOrdinals.length);
+        for (final int ordinal : openOrdinals) {
+            openRestaurants.add(current.restaurantStore.get(ordinal));
+        }
+        return openRestaurants;
     }
 
-    private boolean isRestaurantOpen(final DayOfWeek dayOfWeek, final LocalTime localTime, final Restaurant restaurant) {
-        if (!restaurant.getOpenHoursMap().containsKey(dayOfWeek)) {
-            //System.out.println("Error: restaurant is not open");
-            return false;
+    public List<Restaurant> getOpenRestaurantsForLocalDateTime(final LocalDateTime localDateTime) {
+        return getOpenRestaurants(localDateTime.getDayOfWeek(), localDateTime.toLocalTime());
+    }
+
+    /**
+     *
+     *  getOpenRestaurantsForLocalDateTime for every one of the localDateTimes, answered together in one OpenHoursSweep
+     *  over the open hours of the current restaurants. The results are read-only lists, in the order of the localDateTimes.
+     *
+     *  The times need not be sorted. Closely spaced times share the most work: times in the same half minute of the week
+     *  share one result, and each open restaurant is created once for the whole batch.
+     *
+     */
+    public List<List<Restaurant>> getOpenRestaurantsForLocalDateTimes(final List<LocalDateTime> localDateTimes) {
+        final Snapshot current = snapshot.get();
+
+        final int[] ticks = new int[localDateTimes.size()];
+        for (int i = 0; i < ticks.length; i++) {
+            ticks[i] = WeekTicks.of(localDateTimes.get(i).getDayOfWeek(), localDateTimes.get(i).toLocalTime());
         }
-        Restaurant.OpenHours openHours = restaurant.getOpenHoursMap().get(dayOfWeek);
+        final int[] ascendingTicks = Arrays.stream(ticks).sorted().distinct().toArray();
+        final int[][] openOrdinals = current.openHoursSweep().openOrdinals(ascendingTicks);
 
-        if (localTime.equals(LocalTime.MIDNIGHT) || localTime.isAfter(LocalTime.MIDNIGHT)) {
-            Restaurant.OpenHours openHoursLastDay = restaurant.getOpenHoursMap().get(dayOfWeek.minus(1));
-            if (openHoursLastDay != null && openHoursLastDay.spansMidnight()) {
-                //System.out.println("Spans midnight");
-                if (openHoursLastDay.getEndTime().isAfter(localTime)) {
-                    return true;
+        final Restaurant[] restaurants = new Restaurant[current.restaurantStore.size()];
+        final List<List<Restaurant>> openRestaurantsByTick = new ArrayList<>(ascendingTicks.length);
+        for (final int[] ordinals : openOrdinals) {
+            final List<Restaurant> openRestaurants = new ArrayList<>(ordinals.length);
+            for (final int ordinal : ordinals) {
+                if (restaurants[ordinal] == null) {
+                    restaurants[ordinal] = current.restaurantStore.get(ordinal);
                 }
+                openRestaurants.add(restaurants[ordinal]);
             }
+            openRestaurantsByTick.add(Collections.unmodifiableList(openRestaurants));
         }
-        return openHours.getStartTime().isBefore(localTime) && openHours.getEndTime().isAfter(localTime);
-    }
 
-    public List<Restaurant> getOpenRestaurantsForLocalDateTime(final LocalDateTime localDateTime) {
-        return getOpenRestaurants(localDateTime.getDayOfWeek(), localDateTime.toLocalTime());
+        final List<List<Restaurant>> results = new ArrayList<>(ticks.length);
+        for (final int tick : ticks) {
+            results.add(openRestaurantsByTick.get(Arrays.binarySearch(ascendingTicks, tick)));
+        }
+        return results;
     }
 
     public static Option<DayOfWeek> getDayOfWeek(final String s) {
@@ -205,7 +453,7 @@ public class CSVRestaurantService {
                 final LocalTime startTime = entry.getValue().getStartTime();
                 final LocalTime endTime   = entry.getValue().getEndTime();
 
-                System.out.println("INSERT INTO open_hours (restaurant_id, day_of_week, start_time_minute_of_day, end_time_minute_of_day) select id, '" + dayOfWeek.toString() + "', " + startTime.get(ChronoField.MINUTE_OF_DAY) + ", " + endTime.get(ChronoField.MINUTE_OF_DAY) + " from restaurants where name = '" + name + "';");
+                System.out.println("INSERT INTO open_hours (restaurant_id, day_of_week, start_time_minute_of_day, end_time_minute_of_day) select id, " + dayOfWeek.getValue() + ", " + startTime.get(ChronoField.MINUTE_OF_DAY) + ", " + endTime.get(ChronoField.MINUTE_OF_DAY) + " from restaurants where name = '" + name + "';");
 
             });
         });
@@ -0,0 +1,368 @@
+package com.hologramsciences;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ *
+ *  Immutable set of non-negative ints, split roaring-style into chunks of 2^16 values. Each chunk is stored in
+ *  whichever container is smallest for its contents:
+ *
+ *  - ARRAY: the sorted values, for sparse chunks
+ *  - RUNS:  [start, end) pairs, for chunks made of long stretches
+ *  - WORDS: a plain bitmap, for dense chunks without structure
+ *
+ *  with and without copy only the chunk holding the value, patched in its own container, and share the others.
+ *  A patched container that outgrows a full chunk bitmap becomes WORDS, and WORDS becomes ARRAY once that is half
+ *  the size, so sets built by patching stay close to, but not always at, the smallest layout.
+ *
+ */
+public final class CompressedBitmap {
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int CHUNK_WORDS = (1 << CHUNK_BITS) / 64;
+
+    private static final CompressedBitmap EMPTY = new CompressedBitmap(new Chunk[0], 0);
+
+    private enum Container { ARRAY, RUNS, WORDS }
+
+    // chunks[value >>> CHUNK_BITS], null when the chunk is empty
+    private final Chunk[] chunks;
+    private final int cardinality;
+
+    private CompressedBitmap(final Chunk[] chunks, final int cardinality) {
+        this.chunks = chunks;
+        this.cardinality = cardinality;
+    }
+
+    public static CompressedBitmap of(final BitSet bits) {
+        if (bits.isEmpty()) {
+            return EMPTY;
+        }
+        final Chunk[] chunks = new Chunk[((bits.length() - 1) >>> CHUNK_BITS) + 1];
+        for (int i = 0; i < chunks.length; i++) {
+            final BitSet chunkBits = bits.get(i << CHUNK_BITS, (i + 1) << CHUNK_BITS);
+            chunks[i] = chunkBits.isEmpty() ? null : Chunk.of(chunkBits);
+        }
+        return new CompressedBitmap(chunks, bits.cardinality());
+    }
+
+    public CompressedBitmap with(final int value) {
+        final int chunkIndex = value >>> CHUNK_BITS;
+        final Chunk chunk = chunkIndex < chunks.length ? chunks[chunkIndex] : null;
+        final Chunk patched = chunk == null ? Chunk.single(value & LOW_MASK) : chunk.with(value & LOW_MASK);
+        if (patched == chunk) {
+            return this;
+        }
+        final Chunk[] patchedChunks = Arrays.copyOf(chunks, Math.max(chunks.length, chunkIndex + 1));
+        patchedChunks[chunkIndex] = patched;
+        return new CompressedBitmap(patchedChunks, cardinality + 1);
+    }
+
+    public CompressedBitmap without(final int value) {
+        final int chunkIndex = value >>> CHUNK_BITS;
+        final Chunk chunk = chunkIndex < chunks.length ? chunks[chunkIndex] : null;
+        if (chunk == null) {
+            return this;
+        }
+        final Chunk patched = chunk.without(value & LOW_MASK);
+        if (patched == chunk) {
+            return this;
+        }
+        final Chunk[] patchedChunks = chunks.clone();
+        patchedChunks[chunkIndex] = patched;
+        return new CompressedBitmap(patchedChunks, cardinality - 1);
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     *  Calls the consumer with every value, ascending.
+     */
+    public void forEach(final IntConsumer consumer) {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                chunks[i].forEach(i << CHUNK_BITS, consumer);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        final int[] result = new int[cardinality];
+        final int[] size = {0};
+        forEach(value -> result[size[0]++] = value);
+        return result;
+    }
+
+    public long estimatedSizeInBytes() {
+        long bytes = OpenRestaurantIndex.align(12 + 4 + 4) + OpenRestaurantIndex.arrayBytes(chunks.length, 4);
+        for (final Chunk chunk : chunks) {
+            if (chunk != null) {
+                bytes += chunk.estimatedSizeInBytes();
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressedBitmap{" +
+                "chunks=" + chunks.length +
+                ", cardinality=" + cardinality +
+                '}';
+    }
+
+    /**
+     *  The values of one chunk, as offsets from its first value.
+     */
+    private static final class Chunk {
+        private final Container container;
+        private final int[] values;
+        private final long[] words;
+        private final int cardinality;
+
+        private Chunk(final Container container, final int[] values, final long[] words, final int cardinality) {
+            this.container = container;
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        private static Chunk of(final BitSet bits) {
+            final int cardinality = bits.cardinality();
+
+            int runCount = 0;
+            for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(bits.nextClearBit(start))) {
+                runCount++;
+            }
+
+            final long arrayBytes = 4L * cardinality;
+            final long runBytes = 8L * runCount;
+            final long wordBytes = 8L * ((bits.length() + 63) / 64);
+
+            if (arrayBytes <= runBytes && arrayBytes <= wordBytes) {
+                return new Chunk(Container.ARRAY, bits.stream().toArray(), null, cardinality);
+            } else if (runBytes <= wordBytes) {
+                final int[] runs = new int[2 * runCount];
+                int i = 0;
+                for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(runs[i - 1])) {
+                    runs[i++] = start;
+                    runs[i++] = bits.nextClearBit(start);
+                }
+                return new Chunk(Container.RUNS, runs, null, cardinality);
+            } else {
+                return new Chunk(Container.WORDS, null, bits.toLongArray(), cardinality);
+            }
+        }
+
+        private static Chunk single(final int low) {
+            return new Chunk(Container.ARRAY, new int[]{low}, null, 1);
+        }
+
+        /**
+         *  This chunk when it already holds low, otherwise a patched copy.
+         */
+        private Chunk with(final int low) {
+            switch (container) {
+                case ARRAY: {
+                    final int index = Arrays.binarySearch(values, low);
+                    if (index >= 0) {
+                        return this;
+                    }
+                    final int insertAt = -index - 1;
+                    final int[] patched = new int[values.length + 1];
+                    System.arraycopy(values, 0, patched, 0, insertAt);
+                    patched[insertAt] = low;
+                    System.arraycopy(values, insertAt, patched, insertAt + 1, values.length - insertAt);
+                    return fitted(new Chunk(Container.ARRAY, patched, null, cardinality + 1));
+                }
+                case RUNS: {
+                    // the last run starting at or before low, -1 when there is none
+                    final int run = lastRunStartingAtOrBefore(low);
+                    if (run >= 0 && low < values[2 * run + 1]) {
+                        return this;
+                    }
+                    final boolean extendsPrevious = run >= 0 && values[2 * run + 1] == low;
+                    final boolean extendsNext = 2 * (run + 1) < values.length && values[2 * (run + 1)] == low + 1;
+
+                    final int[] patched;
+                    if (extendsPrevious && extendsNext) {
+                        patched = new int[values.length - 2];
+                        System.arraycopy(values, 0, patched, 0, 2 * run + 1);
+                        System.arraycopy(values, 2 * run + 3, patched, 2 * run + 1, values.length - 2 * run - 3);
+                    } else if (extendsPrevious) {
+                        patched = values.clone();
+                        patched[2 * run + 1] = low + 1;
+                    } else if (extendsNext) {
+                        patched = values.clone();
+                        patched[2 * (run + 1)] = low;
+                    } else {
+                        final int insertAt = 2 * (run + 1);
+                        patched = new int[values.length + 2];
+                        System.arraycopy(values, 0, patched, 0, insertAt);
+                        patched[insertAt] = low;
+                        patched[insertAt + 1] = low + 1;
+                        System.arraycopy(values, insertAt, patched, insertAt + 2, values.length - insertAt);
+                    }
+                    return fitted(new Chunk(Container.RUNS, patched, null, cardinality + 1));
+                }
+                default: {
+                    final int word = low >>> 6;
+                    if (word < words.length && (words[word] & 1L << low) != 0) {
+                        return this;
+                    }
+                    final long[] patched = Arrays.copyOf(words, Math.max(words.length, word + 1));
+                    patched[word] |= 1L << low;
+                    return new Chunk(Container.WORDS, null, patched, cardinality + 1);
+                }
+            }
+        }
+
+        /**
+         *  This chunk when it does not hold low, otherwise a patched copy, null once the chunk is empty.
+         */
+        private Chunk without(final int low) {
+            if (cardinality == 1 && contains(low)) {
+                return null;
+            }
+            switch (container) {
+                case ARRAY: {
+                    final int index = Arrays.binarySearch(values, low);
+                    if (index < 0) {
+                        return this;
+                    }
+                    final int[] patched = new int[values.length - 1];
+                    System.arraycopy(values, 0, patched, 0, index);
+                    System.arraycopy(values, index + 1, patched, index, values.length - index - 1);
+                    return new Chunk(Container.ARRAY, patched, null, cardinality - 1);
+                }
+                case RUNS: {
+                    final int run = lastRunStartingAtOrBefore(low);
+                    if (run < 0 || low >= values[2 * run + 1]) {
+                        return this;
+                    }
+                    final int start = values[2 * run];
+                    final int end = values[2 * run + 1];
+
+                    final int[] patched;
+                    if (start == low && end == low + 1) {
+                        patched = new int[values.length - 2];
+                        System.arraycopy(values, 0, patched, 0, 2 * run);
+                        System.arraycopy(values, 2 * run + 2, patched, 2 * run, values.length - 2 * run - 2);
+                    } else if (start == low) {
+                        patched = values.clone();
+                        patched[2 * run] = low + 1;
+                    } else if (end == low + 1) {
+                        patched = values.clone();
+                        patched[2 * run + 1] = low;
+                    } else {
+                        patched = new int[values.length + 2];
+                        System.arraycopy(values, 0, patched, 0, 2 * run + 1);
+                        patched[2 * run + 1] = low;
+                        patched[2 * run + 2] = low + 1;
+                        System.arraycopy(values, 2 * run + 1, patched, 2 * run + 3, values.length - 2 * run - 1);
+                    }
+                    return fitted(new Chunk(Container.RUNS, patched, null, cardinality - 1));
+                }
+                default: {
+                    final int word = low >>> 6;
+                    if (word >= words.length || (words[word] & 1L << low) == 0) {
+                        return this;
+                    }
+                    final long[] patched = words.clone();
+                    patched[word] &= ~(1L << low);
+                    return fitted(new Chunk(Container.WORDS, null, patched, cardinality - 1));
+                }
+            }
+        }
+
+        /**
+         *  The chunk in WORDS once an ARRAY or RUNS container is larger than a full chunk bitmap, in ARRAY once WORDS is
+         *  twice the size of the array, as it is otherwise.
+         */
+        private static Chunk fitted(final Chunk chunk) {
+            switch (chunk.container) {
+                case WORDS:
+                    return 4L * chunk.cardinality * 2 <= 8L * chunk.words.length ? convert(chunk, Container.ARRAY) : chunk;
+                default:
+                    return 4L * chunk.values.length > 8L * CHUNK_WORDS ? convert(chunk, Container.WORDS) : chunk;
+            }
+        }
+
+        private static Chunk convert(final Chunk chunk, final Container container) {
+            if (container == Container.ARRAY) {
+                final int[] values = new int[chunk.cardinality];
+                final int[] size = {0};
+                chunk.forEach(0, value -> values[size[0]++] = value);
+                return new Chunk(Container.ARRAY, values, null, chunk.cardinality);
+            }
+            final long[] words = new long[CHUNK_WORDS];
+            chunk.forEach(0, value -> words[value >>> 6] |= 1L << value);
+            return new Chunk(Container.WORDS, null, words, chunk.cardinality);
+        }
+
+        private boolean contains(final int low) {
+            switch (container) {
+                case ARRAY:
+                    return Arrays.binarySearch(values, low) >= 0;
+                case RUNS: {
+                    final int run = lastRunStartingAtOrBefore(low);
+                    return run >= 0 && low < values[2 * run + 1];
+                }
+                default:
+                    return (low >>> 6) < words.length && (words[low >>> 6] & 1L << low) != 0;
+            }
+        }
+
+        /**
+         *  Binary search over the run starts of a RUNS container.
+         */
+        private int lastRunStartingAtOrBefore(final int low) {
+            int lo = 0;
+            int hi = values.length / 2 - 1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (values[2 * mid] <= low) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return hi;
+        }
+
+        private void forEach(final int base, final IntConsumer consumer) {
+            switch (container) {
+                case ARRAY:
+                    for (final int value : values) {
+                        consumer.accept(base + value);
+                    }
+                    break;
+                case RUNS:
+                    for (int i = 0; i < values.length; i += 2) {
+                        for (int value = values[i]; value < values[i + 1]; value++) {
+                            consumer.accept(base + value);
+                        }
+                    }
+                    break;
+                case WORDS:
+                    for (int i = 0; i < words.length; i++) {
+                        long word = words[i];
+                        while (word != 0) {
+                            consumer.accept(base + i * 64 + Long.numberOfTrailingZeros(word));
+                            word &= word - 1;
+                        }
+                    }
+                    break;
+            }
+        }
+
+        private long estimatedSizeInBytes() {
+            final long arrayBytes = values != null ? OpenRestaurantIndex.arrayBytes(values.length, 4) : OpenRestaurantIndex.arrayBytes(words.length, 8);
+            return OpenRestaurantIndex.align(12 + 4 + 4 + 4 + 4) + arrayBytes;
+        }
+    }
+}
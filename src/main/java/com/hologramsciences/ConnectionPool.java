@@ -0,0 +1,529 @@
+package com.hologramsciences;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ *
+ *  Fixed bounds JDBC connection pool in front of another DataSource.
+ *
+ *  getConnection hands out a pooled connection whose close returns it to the pool. Idle connections are reused most
+ *  recently released first, checked with Connection.isValid before being handed out, and closed once they have been
+ *  idle for longer than the idle timeout, down to the minimum size. When all maximum size connections are in use
+ *  getConnection waits up to the acquire timeout, then throws an SQLTimeoutException.
+ *
+ *  The pool opens the minimum size connections when it is created, and opens new ones whenever broken connections
+ *  take it below that. Eviction and refilling happen on acquire and release, there are no background threads.
+ *
+ *  A returned connection gets back the auto-commit, read-only, transaction isolation, catalog and schema settings it
+ *  was opened with, so one borrower's settings never leak into the next.
+ *
+ *  Each physical connection keeps a StatementCache, so prepareStatement(String) on a pooled connection reuses the
+ *  statement prepared for the same SQL by an earlier borrower, and H2 parses and plans it only once.
+ *
+ */
+public class ConnectionPool implements DataSource, AutoCloseable {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private static final Set<String> RESTORED_SETTERS = new HashSet<>(Arrays.asList("setReadOnly", "setTransactionIsolation", "setCatalog", "setSchema"));
+
+    private final DataSource dataSource;
+    private final int minSize;
+    private final int maxSize;
+    private final long acquireTimeoutNanos;
+    private final long idleTimeoutNanos;
+    private final int statementCacheSize;
+
+    // most recently released first, guarded by this
+    private final Deque<PhysicalConnection> idle = new ArrayDeque<>();
+    private int total = 0;
+    private int waiting = 0;
+    private boolean closed = false;
+
+    private long acquireCount = 0;
+    private long acquireWaitNanos = 0;
+    private long timeoutCount = 0;
+    private long createdCount = 0;
+    private long evictedCount = 0;
+    private long statementCacheHits = 0;
+    private long statementCacheMisses = 0;
+
+    private static class PhysicalConnection {
+        private final Connection connection;
+        private final StatementCache statementCache;
+        private long releasedAtNanos;
+
+        // as opened, restored on release once a borrower has called one of their setters
+        private final boolean readOnly;
+        private final int transactionIsolation;
+        private final String catalog;
+        private final String schema;
+        private boolean settingsChanged = false;
+
+        private PhysicalConnection(final Connection connection, final int statementCacheSize) throws SQLException {
+            this.connection = connection;
+            this.statementCache = new StatementCache(statementCacheSize);
+            this.readOnly = connection.isReadOnly();
+            this.transactionIsolation = connection.getTransactionIsolation();
+            this.catalog = connection.getCatalog();
+            this.schema = connection.getSchema();
+        }
+
+        private void restoreSettings() throws SQLException {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            if (settingsChanged) {
+                connection.setReadOnly(readOnly);
+                connection.setTransactionIsolation(transactionIsolation);
+                if (catalog != null) {
+                    connection.setCatalog(catalog);
+                }
+                if (schema != null) {
+                    connection.setSchema(schema);
+                }
+                settingsChanged = false;
+            }
+        }
+
+        private void close() {
+            statementCache.closeAll();
+            try {
+                connection.close();
+            } catch (final SQLException e) {
+                // already unusable, nothing left to release
+            }
+        }
+    }
+
+    public ConnectionPool(final DataSource dataSource, final int minSize, final int maxSize, final Duration acquireTimeout, final Duration idleTimeout) throws SQLException {
+        this(dataSource, minSize, maxSize, acquireTimeout, idleTimeout, 0);
+    }
+
+    /**
+     *  Keeps up to statementCacheSize prepared statements per connection, 0 disables the cache. Throws if the minimum
+     *  size connections cannot be opened.
+     */
+    public ConnectionPool(final DataSource dataSource, final int minSize, final int maxSize, final Duration acquireTimeout, final Duration idleTimeout, final int statementCacheSize) throws SQLException {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size, min " + minSize + " max " + maxSize);
+        }
+        this.dataSource = dataSource;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.statementCacheSize = statementCacheSize;
+
+        try {
+            fillToMinSize();
+        } catch (final SQLException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final long start = System.nanoTime();
+        while (true) {
+            final PhysicalConnection physical = acquire(start);
+            if (physical == null) {
+                return wrap(create());
+            }
+            if (isValid(physical.connection)) {
+                return wrap(physical);
+            }
+            discard(physical);
+        }
+    }
+
+    /**
+     *  An idle connection, or null after reserving a slot for a new one.
+     */
+    private synchronized PhysicalConnection acquire(final long start) throws SQLException {
+        while (true) {
+            if (closed) {
+                throw new SQLException("Connection pool is closed");
+            }
+            closeQuietly(removeExpired(System.nanoTime()));
+
+            if (!idle.isEmpty() || total < maxSize) {
+                acquireCount++;
+                acquireWaitNanos += System.nanoTime() - start;
+                if (!idle.isEmpty()) {
+                    return idle.pollFirst();
+                }
+                total++;
+                return null;
+            }
+
+            final long remaining = acquireTimeoutNanos - (System.nanoTime() - start);
+            if (remaining <= 0) {
+                timeoutCount++;
+                throw new SQLTimeoutException("Timed out after " + Duration.ofNanos(acquireTimeoutNanos) + " waiting for one of " + maxSize + " connections");
+            }
+            waiting++;
+            try {
+                final long millis = remaining / 1_000_000;
+                wait(millis, (int) (remaining % 1_000_000));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted waiting for a connection", e);
+            } finally {
+                waiting--;
+            }
+        }
+    }
+
+    private PhysicalConnection create() throws SQLException {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            final PhysicalConnection physical = new PhysicalConnection(connection, statementCacheSize);
+            synchronized (this) {
+                createdCount++;
+            }
+            return physical;
+        } catch (final SQLException | RuntimeException e) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (final SQLException closeException) {
+                    e.addSuppressed(closeException);
+                }
+            }
+            synchronized (this) {
+                total--;
+                notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isValid(final Connection connection) {
+        try {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (final SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(final PhysicalConnection physical) {
+        boolean reusable;
+        try {
+            physical.restoreSettings();
+            reusable = !physical.connection.isClosed();
+        } catch (final SQLException e) {
+            reusable = false;
+        }
+
+        final List<PhysicalConnection> toClose = new ArrayList<>();
+        synchronized (this) {
+            statementCacheHits += physical.statementCache.getHits();
+            statementCacheMisses += physical.statementCache.getMisses();
+            physical.statementCache.resetCounts();
+            if (reusable && !closed) {
+                physical.releasedAtNanos = System.nanoTime();
+                idle.addFirst(physical);
+            } else {
+                total--;
+                toClose.add(physical);
+            }
+            toClose.addAll(removeExpired(System.nanoTime()));
+            notifyAll();
+        }
+        closeQuietly(toClose);
+        refillQuietly();
+    }
+
+    private void discard(final PhysicalConnection physical) {
+        synchronized (this) {
+            total--;
+            evictedCount++;
+            notifyAll();
+        }
+        physical.close();
+        refillQuietly();
+    }
+
+    /**
+     *  Opens idle connections until there are at least minSize in all.
+     */
+    private void fillToMinSize() throws SQLException {
+        while (true) {
+            synchronized (this) {
+                if (closed || total >= minSize) {
+                    return;
+                }
+                total++;
+            }
+            final PhysicalConnection physical = create();
+            synchronized (this) {
+                if (!closed) {
+                    physical.releasedAtNanos = System.nanoTime();
+                    idle.addFirst(physical);
+                    notifyAll();
+                    continue;
+                }
+                total--;
+            }
+            physical.close();
+        }
+    }
+
+    private void refillQuietly() {
+        try {
+            fillToMinSize();
+        } catch (final SQLException | RuntimeException e) {
+            // the database is unavailable, the next getConnection opens a connection or reports why it cannot
+        }
+    }
+
+    /**
+     *  Removes connections idle for longer than the idle timeout, oldest first, keeping at least minSize. Returns them to be closed.
+     */
+    private List<PhysicalConnection> removeExpired(final long now) {
+        final List<PhysicalConnection> expired = new ArrayList<>();
+        while (total > minSize && !idle.isEmpty() && now - idle.peekLast().releasedAtNanos > idleTimeoutNanos) {
+            expired.add(idle.pollLast());
+            total--;
+            evictedCount++;
+        }
+        return expired;
+    }
+
+    /**
+     *  Closes the idle connections, connections in use are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        final List<PhysicalConnection> toClose = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            while (!idle.isEmpty()) {
+                toClose.add(idle.pollFirst());
+                total--;
+            }
+            notifyAll();
+        }
+        closeQuietly(toClose);
+    }
+
+    public synchronized Metrics getMetrics() {
+        return new Metrics(total - idle.size(), idle.size(), waiting, acquireCount, acquireWaitNanos, timeoutCount, createdCount, evictedCount,
+                statementCacheHits, statementCacheMisses);
+    }
+
+    private Connection wrap(final PhysicalConnection physical) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new PooledConnectionHandler(physical));
+    }
+
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final PhysicalConnection physical;
+        private boolean returned = false;
+
+        private PooledConnectionHandler(final PhysicalConnection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + physical.connection;
+                default:
+                    if (returned) {
+                        throw new SQLException("Connection is closed");
+                    }
+                    if (RESTORED_SETTERS.contains(method.getName())) {
+                        physical.settingsChanged = true;
+                    }
+                    if (statementCacheSize > 0 && method.getName().equals("prepareStatement") && args.length == 1) {
+                        return physical.statementCache.prepare(physical.connection, (Connection) proxy, (String) args[0]);
+                    }
+                    try {
+                        return method.invoke(physical.connection, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+
+    private static void closeQuietly(final List<PhysicalConnection> connections) {
+        for (final PhysicalConnection connection : connections) {
+            connection.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections all use the credentials of the underlying DataSource");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return dataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || dataSource.isWrapperFor(iface);
+    }
+
+    public static class Metrics {
+        private final int active;
+        private final int idle;
+        private final int waiting;
+        private final long acquireCount;
+        private final long acquireWaitNanos;
+        private final long timeoutCount;
+        private final long createdCount;
+        private final long evictedCount;
+        private final long statementCacheHits;
+        private final long statementCacheMisses;
+
+        public Metrics(final int active, final int idle, final int waiting, final long acquireCount, final long acquireWaitNanos,
+                       final long timeoutCount, final long createdCount, final long evictedCount,
+                       final long statementCacheHits, final long statementCacheMisses) {
+            this.active = active;
+            this.idle = idle;
+            this.waiting = waiting;
+            this.acquireCount = acquireCount;
+            this.acquireWaitNanos = acquireWaitNanos;
+            this.timeoutCount = timeoutCount;
+            this.createdCount = createdCount;
+            this.evictedCount = evictedCount;
+            this.statementCacheHits = statementCacheHits;
+            this.statementCacheMisses = statementCacheMisses;
+        }
+
+        /**
+         *  Connections handed out and not yet returned, including ones being opened.
+         */
+        public int getActive() {
+            return active;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getWaiting() {
+            return waiting;
+        }
+
+        public long getAcquireCount() {
+            return acquireCount;
+        }
+
+        /**
+         *  Total time spent in getConnection waiting for a free slot, over all successful acquires.
+         */
+        public long getAcquireWaitNanos() {
+            return acquireWaitNanos;
+        }
+
+        public long getTimeoutCount() {
+            return timeoutCount;
+        }
+
+        public long getCreatedCount() {
+            return createdCount;
+        }
+
+        /**
+         *  Connections closed for being idle too long or failing validation.
+         */
+        public long getEvictedCount() {
+            return evictedCount;
+        }
+
+        /**
+         *  Statement cache counts of connections returned to the pool so far.
+         */
+        public long getStatementCacheHits() {
+            return statementCacheHits;
+        }
+
+        public long getStatementCacheMisses() {
+            return statementCacheMisses;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{" +
+                    "active=" + active +
+                    ", idle=" + idle +
+                    ", waiting=" + waiting +
+                    ", acquireCount=" + acquireCount +
+                    ", acquireWaitNanos=" + acquireWaitNanos +
+                    ", timeoutCount=" + timeoutCount +
+                    ", createdCount=" + createdCount +
+                    ", evictedCount=" + evictedCount +
+                    ", statementCacheHits=" + statementCacheHits +
+                    ", statementCacheMisses=" + statementCacheMisses +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.hologramsciences;
+
+import java.util.Arrays;
+
+/**
+ *  Growable int array, to avoid boxing while collecting ranges and query results.
+ */
+class IntArrayBuilder {
+    private int[] values = new int[16];
+    private int size = 0;
+
+    void add(final int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    int[] toSortedDistinctArray() {
+        Arrays.sort(values, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || values[distinct - 1] != values[i]) {
+                values[distinct++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, distinct);
+    }
+}
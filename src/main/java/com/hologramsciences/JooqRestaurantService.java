@@ -1,33 +1,69 @@
 package com.hologramsciences;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.RecordMapper;
+import org.jooq.ResultQuery;
 import org.jooq.SQLDialect;
-import org.jooq.codegen.GenerationTool;
+import org.jooq.conf.Settings;
 import org.jooq.impl.DSL;
-import org.jooq.meta.jaxb.Configuration;
-import org.jooq.meta.jaxb.Database;
-import org.jooq.meta.jaxb.Generator;
-import org.jooq.meta.jaxb.Jdbc;
-import org.jooq.meta.jaxb.Property;
-import org.jooq.meta.jaxb.Target;
+import org.jooq.impl.DefaultConfiguration;
 
+import com.hologramsciences.SQLRestaurantService.ExceptionThrowingConsumer;
+import com.hologramsciences.SQLRestaurantService.ExceptionThrowingFunction;
 import com.hologramsciences.jooq.tables.records.RestaurantsRecord;
+import com.hologramsciences.sql.RestaurantRecord;
 
-import static com.hologramsciences.jooq.Tables.MENU_ITEMS;
-import static com.hologramsciences.jooq.Tables.OPEN_HOURS;
+import static com.hologramsciences.jooq.Tables.MENU_ITEM_COUNTS;
+import static com.hologramsciences.jooq.Tables.OPEN_WEEK_RANGES;
 import static com.hologramsciences.jooq.tables.Restaurants.RESTAURANTS;
-import static java.time.temporal.ChronoField.MINUTE_OF_DAY;
 
 public class JooqRestaurantService {
+    private static final Settings SETTINGS = new Settings().withExecuteLogging(false);
 
-    private final SQLRestaurantService sqlRestaurantService = new SQLRestaurantService();
+    private static final RecordMapper<Record2<Long, String>, RestaurantRecord> RESTAURANT_RECORD_MAPPER
+            = record -> new RestaurantRecord(record.value1(), record.value2());
+
+    private final SQLRestaurantService sqlRestaurantService;
+    private final DSLContext create;
+
+    // rendered once from the query templates, with a ? per parameter, and run over plain JDBC: binding values into a
+    // ResultQuery changes it, so a template shared between threads would have to be rebuilt and rendered on every call
+    private final String openRestaurantsSql;
+    private final String menuSizeSql;
+
+    public JooqRestaurantService() {
+        this(new SQLRestaurantService());
+    }
+
+    /**
+     *  Runs on the connection pool of the given service, and shares its open restaurants cache, see getOpenRestaurants.
+     */
+    public JooqRestaurantService(final SQLRestaurantService sqlRestaurantService) {
+        this.sqlRestaurantService = sqlRestaurantService;
+        this.create = DSL.using(new DefaultConfiguration()
+                .set(sqlRestaurantService.getConnectionPool())
+                .set(SQLDialect.H2)
+                .set(SETTINGS));
+        this.openRestaurantsSql = create.render(openRestaurantsQuery(create));
+        this.menuSizeSql = create.render(menuSizeQuery(create));
+    }
 
     /**
      *
@@ -40,34 +76,64 @@ public class JooqRestaurantService {
      *
      */
     public List<RestaurantsRecord> getOpenRestaurants(final DayOfWeek dayOfWeek, final LocalTime localTime) throws SQLException {
-        final String dayOfWeekString = dayOfWeek.toString();
-
-        final DayOfWeek previousDayOfWeek = dayOfWeek.minus(1);
-        final String previousDayOfWeekString = previousDayOfWeek.toString();
-
-        return withDSLContext(create -> {
-            return create
-                    .select(RESTAURANTS.ID, RESTAURANTS.NAME)
-                    .from(RESTAURANTS)
-                    .innerJoin(OPEN_HOURS)
-                    .on(OPEN_HOURS.RESTAURANT_ID.eq(RESTAURANTS.ID))
-                    .where(whereCondition(localTime, dayOfWeekString, previousDayOfWeekString))
-                    .fetchInto(RESTAURANTS);
+        final List<RestaurantRecord> openRestaurants = getOpenRestaurantsCache().get(WeekTicks.of(dayOfWeek, localTime), tick -> {
+            return Collections.unmodifiableList(fetch(openRestaurantsSql, JooqRestaurantService::toRestaurantRecord, tick, tick));
         });
+
+        final List<RestaurantsRecord> records = new ArrayList<>(openRestaurants.size());
+        for (final RestaurantRecord restaurant : openRestaurants) {
+            records.add(toRestaurantsRecord(restaurant.getId(), restaurant.getName()));
+        }
+        return records;
     }
 
-    private Condition whereCondition(LocalTime localTime, String dayOfWeekString, String previousDayOfWeekString) {
-        final Integer minuteOfDay = localTime.get(MINUTE_OF_DAY);
+    /**
+     *  Same restaurants as getOpenRestaurants, mapped straight from the rows into RestaurantRecord, and not cached.
+     */
+    public List<RestaurantRecord> getOpenRestaurantRecords(final DayOfWeek dayOfWeek, final LocalTime localTime) throws SQLException {
+        final int tick = WeekTicks.of(dayOfWeek, localTime);
+        return fetch(openRestaurantsSql, JooqRestaurantService::toRestaurantRecord, tick, tick);
+    }
 
-        if (localTime.equals(LocalTime.MIDNIGHT) || localTime.isAfter(LocalTime.MIDNIGHT)) {
-            return OPEN_HOURS.DAY_OF_WEEK.eq(previousDayOfWeekString)
-                    .and(
-                        OPEN_HOURS.START_TIME_MINUTE_OF_DAY.gt(OPEN_HOURS.END_TIME_MINUTE_OF_DAY).and(OPEN_HOURS.END_TIME_MINUTE_OF_DAY.gt(minuteOfDay))
-                    );
-        } else {
-            return OPEN_HOURS.DAY_OF_WEEK.eq(dayOfWeekString).and(OPEN_HOURS.START_TIME_MINUTE_OF_DAY.lt(minuteOfDay).and(OPEN_HOURS.END_TIME_MINUTE_OF_DAY.gt(minuteOfDay)));
-        }
+    /**
+     *  Ids of the restaurants getOpenRestaurants returns, in no particular order, without creating a record per row.
+     */
+    public long[] getOpenRestaurantIds(final DayOfWeek dayOfWeek, final LocalTime localTime) throws SQLException {
+        final int tick = WeekTicks.of(dayOfWeek, localTime);
+        return fetchIds(openRestaurantsSql, tick, tick);
+    }
+
+    private static ResultQuery<Record2<Long, String>> openRestaurantsQuery(final DSLContext create) {
+        return create
+                .selectDistinct(RESTAURANTS.ID, RESTAURANTS.NAME)
+                .from(OPEN_WEEK_RANGES)
+                .innerJoin(RESTAURANTS)
+                .on(RESTAURANTS.ID.eq(OPEN_WEEK_RANGES.RESTAURANT_ID))
+                .where(whereCondition(DSL.param("tick", Integer.class)));
     }
+
+    /**
+     *
+     *  The open restaurants cache of the SQLRestaurantService, both run the same open_week_ranges predicate and cache
+     *  the immutable RestaurantRecords. getOpenRestaurants creates new RestaurantsRecords from them on every call, so
+     *  callers are free to change and store the records they get.
+     *
+     */
+    public QueryResultCache<Integer, List<RestaurantRecord>> getOpenRestaurantsCache() {
+        return sqlRestaurantService.getOpenRestaurantsCache();
+    }
+
+    public CompletableFuture<List<RestaurantsRecord>> getOpenRestaurantsAsync(final DayOfWeek dayOfWeek, final LocalTime localTime) {
+        return sqlRestaurantService.getQueryExecutor().submit(() -> getOpenRestaurants(dayOfWeek, localTime));
+    }
+
+    /**
+     *  Same single range predicate as SQLRestaurantService.getOpenRestaurants.
+     */
+    private static Condition whereCondition(final Field<Integer> tick) {
+        return OPEN_WEEK_RANGES.START_TICK_OF_WEEK.le(tick).and(OPEN_WEEK_RANGES.END_TICK_OF_WEEK.gt(tick));
+    }
+
     /**
      *
      *  TODO: Implement me
@@ -78,53 +144,109 @@ public class JooqRestaurantService {
      *
      */
     public List<RestaurantsRecord> getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(final Integer menuSize) throws SQLException {
-        return withDSLContext(create -> {
-            return create
-                    .select(RESTAURANTS.ID, RESTAURANTS.NAME)
-                    .from(RESTAURANTS)
-                    .innerJoin(MENU_ITEMS)
-                    .on(MENU_ITEMS.RESTAURANT_ID.eq(RESTAURANTS.ID))
-                    .groupBy(RESTAURANTS.ID)
-                    .having(DSL.count(RESTAURANTS.ID).ge(menuSize))
-                    .fetchInto(RESTAURANTS);
-        });
+        return fetch(menuSizeSql, this::toRestaurantsRecord, menuSize);
+    }
+
+    public List<RestaurantRecord> getRestaurantRecordsWithMenuOfSizeGreaterThanOrEqualTo(final Integer menuSize) throws SQLException {
+        return fetch(menuSizeSql, JooqRestaurantService::toRestaurantRecord, menuSize);
     }
 
+    public long[] getRestaurantIdsWithMenuOfSizeGreaterThanOrEqualTo(final Integer menuSize) throws SQLException {
+        return fetchIds(menuSizeSql, menuSize);
+    }
+
+    /**
+     *
+     *  Every restaurant by id, read through a lazy jOOQ cursor fetchSize rows at a time and mapped one by one,
+     *  so no Result of all the rows is built. The stream holds a pooled connection until it is closed, use try-with-resources.
+     *
+     */
+    public Stream<RestaurantRecord> streamAllRestaurantRecords(final int fetchSize) {
+        final Cursor<Record2<Long, String>> cursor = create
+                .select(RESTAURANTS.ID, RESTAURANTS.NAME)
+                .from(RESTAURANTS)
+                .orderBy(RESTAURANTS.ID)
+                .fetchSize(fetchSize)
+                .fetchLazy();
+        return cursor.stream().map(RESTAURANT_RECORD_MAPPER::map).onClose(cursor::close);
+    }
+
+    private static ResultQuery<Record2<Long, String>> menuSizeQuery(final DSLContext create) {
+        return create
+                .select(RESTAURANTS.ID, RESTAURANTS.NAME)
+                .from(MENU_ITEM_COUNTS)
+                .innerJoin(RESTAURANTS)
+                .on(RESTAURANTS.ID.eq(MENU_ITEM_COUNTS.RESTAURANT_ID))
+                .where(MENU_ITEM_COUNTS.MENU_ITEM_COUNT.ge(DSL.param("menuSize", Integer.class)));
+    }
+
+    public CompletableFuture<List<RestaurantsRecord>> getRestaurantsWithMenuOfSizeGreaterThanOrEqualToAsync(final Integer menuSize) {
+        return sqlRestaurantService.getQueryExecutor().submit(() -> getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(menuSize));
+    }
+
+    /**
+     *
+     *  Runs the function with a DSLContext on one pooled connection, so all of its queries share the connection and
+     *  its transaction. The connection goes back to the pool when the function returns, records it fetched must not be
+     *  stored or refreshed afterwards.
+     *
+     */
     public <T> T withDSLContext(final Function<DSLContext, T> function) throws SQLException {
-        return sqlRestaurantService.runFunctionOnConnection(connection -> {
-            final DSLContext create = DSL.using(connection, SQLDialect.H2);
-            return function.apply(create);
+        return sqlRestaurantService.runFunctionOnConnection(connection -> function.apply(DSL.using(connection, SQLDialect.H2, SETTINGS)));
+    }
+
+    private <T> List<T> fetch(final String sql, final ExceptionThrowingFunction<ResultSet, T, SQLException> rowMapper, final Object... parameters) throws SQLException {
+        final List<T> results = new ArrayList<>();
+        forEachRow(sql, rs -> results.add(rowMapper.apply(rs)), parameters);
+        return results;
+    }
+
+    private long[] fetchIds(final String sql, final Object... parameters) throws SQLException {
+        final LongStream.Builder ids = LongStream.builder();
+        forEachRow(sql, rs -> ids.add(rs.getLong(1)), parameters);
+        return ids.build().toArray();
+    }
+
+    /**
+     *
+     *  Runs SQL rendered from a query template with the given values for its parameters, in order, and hands each row to the consumer.
+     *
+     *  Nothing is built or rendered per call, and with the same SQL every time the prepared statement comes from the
+     *  connection pool's statement cache. The templates select the restaurant id and name, in that order.
+     *
+     */
+    private void forEachRow(final String sql, final ExceptionThrowingConsumer<ResultSet, SQLException> rowConsumer, final Object... parameters) throws SQLException {
+        sqlRestaurantService.runOnConnection(connection -> {
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                for (int i = 1; i <= parameters.length; i++) {
+                    preparedStatement.setObject(i, parameters[i - 1]);
+                }
+
+                try (final ResultSet rs = preparedStatement.executeQuery()) {
+                    while (rs.next()) {
+                        rowConsumer.accept(rs);
+                    }
+                }
+            }
         });
     }
 
-    // NOTE: Ideally we should use the maven plugin to generate the Jooq classes
-    public static void main (final String [] args) throws Exception {
-        final SQLRestaurantService sqlRestaurantService = new SQLRestaurantService();
-        sqlRestaurantService.initializeDatabase();
-
-        Configuration configuration = new Configuration()
-                .withJdbc(new Jdbc()
-                        .withDriver("org.h2.Driver")
-                        .withUrl("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;DB_CLOSE_ON_EXIT=false")
-                        .withUser("sa")
-                        .withPassword("sa"))
-                .withGenerator(new Generator()
-                        .withDatabase(new Database()
-                                .withName("org.jooq.meta.h2.H2Database")
-                                .withIncludes(".*")
-                                .withExcludes("")
-                                .withInputSchema("PUBLIC")
-                                .withProperties(new Property()
-                                        .withKey("defaultNameCase")
-                                        .withValue("as_is")
-                                )
-                        )
-
-                        .withTarget(new Target()
-                                .withPackageName("com.eatwithava.jooq")
-                                .withDirectory("src/main/java/")));
-
-        GenerationTool.generate(configuration);
+    private static RestaurantRecord toRestaurantRecord(final ResultSet rs) throws SQLException {
+        return new RestaurantRecord(rs.getLong(1), rs.getString(2));
+    }
+
+    private RestaurantsRecord toRestaurantsRecord(final ResultSet rs) throws SQLException {
+        return toRestaurantsRecord(rs.getLong(1), rs.getString(2));
+    }
+
+    /**
+     *  Attached and unchanged, like the records fetchInto(RESTAURANTS) returns.
+     */
+    private RestaurantsRecord toRestaurantsRecord(final long id, final String name) {
+        final RestaurantsRecord record = new RestaurantsRecord(id, name);
+        record.attach(create.configuration());
+        record.changed(false);
+        return record;
     }
 
 }
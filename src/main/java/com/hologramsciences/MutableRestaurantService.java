@@ -0,0 +1,146 @@
+package com.hologramsciences;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *
+ *  Restaurants whose open hours can be changed one at a time, without rebuilding anything for the rest of the catalog.
+ *
+ *  Readers work on an immutable Version, published with a single volatile write. A writer copies only what the change
+ *  touches: the chunk of restaurants holding the changed one, and the day buckets and open sets of the
+ *  OpenSetBitmapIndex covering the ticks at which it opens or closes (see OpenSetBitmapIndex.withOpenHours).
+ *
+ *  Ordinals are handed out by addRestaurant and stay stable, a removed restaurant leaves a gap that is never reused.
+ *
+ */
+public class MutableRestaurantService {
+    private static final int CHUNK_SIZE = 1024;
+
+    private volatile Version version;
+
+    private static class Version {
+        // [ordinal / CHUNK_SIZE][ordinal % CHUNK_SIZE], null once removed
+        private final Restaurant[][] chunks;
+        private final int size;
+        private final OpenSetBitmapIndex openRestaurantIndex;
+
+        private Version(final Restaurant[][] chunks, final int size, final OpenSetBitmapIndex openRestaurantIndex) {
+            this.chunks = chunks;
+            this.size = size;
+            this.openRestaurantIndex = openRestaurantIndex;
+        }
+
+        private Restaurant get(final int ordinal) {
+            return chunks[ordinal / CHUNK_SIZE][ordinal % CHUNK_SIZE];
+        }
+
+        /**
+         *  Copy with the restaurant at the ordinal replaced, sharing every other chunk.
+         */
+        private Version with(final int ordinal, final Restaurant restaurant, final OpenSetBitmapIndex index) {
+            final int chunk = ordinal / CHUNK_SIZE;
+            final Restaurant[][] copy = Arrays.copyOf(chunks, Math.max(chunks.length, chunk + 1));
+            copy[chunk] = chunk < chunks.length ? chunks[chunk].clone() : new Restaurant[CHUNK_SIZE];
+            copy[chunk][ordinal % CHUNK_SIZE] = restaurant;
+            return new Version(copy, Math.max(size, ordinal + 1), index);
+        }
+    }
+
+    public MutableRestaurantService() {
+        this(new RestaurantStore.Builder().build());
+    }
+
+    /**
+     *  Starts with the restaurants of the store, under the same ordinals.
+     */
+    public MutableRestaurantService(final RestaurantStore restaurantStore) {
+        final Restaurant[][] chunks = new Restaurant[(restaurantStore.size() + CHUNK_SIZE - 1) / CHUNK_SIZE][CHUNK_SIZE];
+        for (int ordinal = 0; ordinal < restaurantStore.size(); ordinal++) {
+            chunks[ordinal / CHUNK_SIZE][ordinal % CHUNK_SIZE] = restaurantStore.get(ordinal);
+        }
+        this.version = new Version(chunks, restaurantStore.size(), new OpenSetBitmapIndex(restaurantStore));
+    }
+
+    /**
+     *  Returns the ordinal of the new restaurant.
+     */
+    public synchronized int addRestaurant(final Restaurant restaurant) {
+        final Version current = version;
+        final int ordinal = current.size;
+        version = current.with(ordinal, restaurant, current.openRestaurantIndex.withOpenHours(ordinal, null, restaurant.openHours()));
+        return ordinal;
+    }
+
+    /**
+     *  Replaces all open hours of the restaurant, days missing from the map become closed.
+     */
+    public synchronized void upsertOpenHours(final int ordinal, final Map<DayOfWeek, Restaurant.OpenHours> openHoursMap) {
+        final Version current = version;
+        final Restaurant restaurant = existing(current, ordinal);
+        final Restaurant updated = new Restaurant(restaurant.getName(), openHoursMap);
+        version = current.with(ordinal, updated, current.openRestaurantIndex.withOpenHours(ordinal, restaurant.openHours(), updated.openHours()));
+    }
+
+    public synchronized void removeRestaurant(final int ordinal) {
+        final Version current = version;
+        final Restaurant restaurant = existing(current, ordinal);
+        version = current.with(ordinal, null, current.openRestaurantIndex.withOpenHours(ordinal, restaurant.openHours(), null));
+    }
+
+    /**
+     *  The restaurant with the ordinal, or null if it was removed.
+     */
+    public Restaurant getRestaurant(final int ordinal) {
+        final Version current = version;
+        if (ordinal < 0 || ordinal >= current.size) {
+            throw new IndexOutOfBoundsException("Ordinal: " + ordinal + ", Size: " + current.size);
+        }
+        return current.get(ordinal);
+    }
+
+    /**
+     *  The restaurants not removed, by ordinal.
+     */
+    public List<Restaurant> getAllRestaurants() {
+        final Version current = version;
+        final List<Restaurant> restaurants = new ArrayList<>(current.size);
+        for (int ordinal = 0; ordinal < current.size; ordinal++) {
+            final Restaurant restaurant = current.get(ordinal);
+            if (restaurant != null) {
+                restaurants.add(restaurant);
+            }
+        }
+        return restaurants;
+    }
+
+    /**
+     *  Same rules as CSVRestaurantService.getOpenRestaurants, results are by ordinal.
+     */
+    public List<Restaurant> getOpenRestaurants(final DayOfWeek dayOfWeek, final LocalTime localTime) {
+        final Version current = version;
+        final int[] openOrdinals = current.openRestaurantIndex.openOrdinals(WeekTicks.of(dayOfWeek, localTime));
+        final List<Restaurant> openRestaurants = new ArrayList<>(openOrdinals.length);
+        for (final int ordinal : openOrdinals) {
+            openRestaurants.add(current.get(ordinal));
+        }
+        return openRestaurants;
+    }
+
+    public List<Restaurant> getOpenRestaurantsForLocalDateTime(final LocalDateTime localDateTime) {
+        return getOpenRestaurants(localDateTime.getDayOfWeek(), localDateTime.toLocalTime());
+    }
+
+    private static Restaurant existing(final Version current, final int ordinal) {
+        final Restaurant restaurant = ordinal >= 0 && ordinal < current.size ? current.get(ordinal) : null;
+        if (restaurant == null) {
+            throw new IllegalArgumentException("No restaurant with ordinal " + ordinal);
+        }
+        return restaurant;
+    }
+}
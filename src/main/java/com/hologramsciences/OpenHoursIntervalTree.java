@@ -0,0 +1,186 @@
+package com.hologramsciences;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ *
+ *  Centered interval tree over the open hours of a fixed list of restaurants, keyed by WeekTicks.
+ *
+ *  Built once, then every "who is open" question is a single stabbing query in O(log n + k)
+ *  instead of an open check against every restaurant.
+ *
+ *  Each node keeps the ranges that contain its center twice, sorted by start ascending and by end descending,
+ *  so a query only reads the ranges it reports plus one per visited node.
+ *
+ */
+public class OpenHoursIntervalTree implements OpenRestaurantIndex {
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] ordinals;
+    private final Node root;
+
+    private static class Node {
+        private final int center;
+        private final int[] byStart;
+        private final int[] byEnd;
+        private final Node left;
+        private final Node right;
+
+        private Node(final int center, final int[] byStart, final int[] byEnd, final Node left, final Node right) {
+            this.center = center;
+            this.byStart = byStart;
+            this.byEnd = byEnd;
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     *  Ordinals reported by the tree are the ordinals in the store.
+     */
+    public OpenHoursIntervalTree(final RestaurantStore restaurants) {
+        final IntArrayBuilder startBuffer = new IntArrayBuilder();
+        final IntArrayBuilder endBuffer = new IntArrayBuilder();
+        final IntArrayBuilder ordinalBuffer = new IntArrayBuilder();
+
+        for (int ordinal = 0; ordinal < restaurants.size(); ordinal++) {
+            final int restaurantOrdinal = ordinal;
+            WeekTicks.forEachOpenRange(restaurants.getOpenHours(ordinal), (startTick, endTick) -> {
+                startBuffer.add(startTick);
+                endBuffer.add(endTick);
+                ordinalBuffer.add(restaurantOrdinal);
+            });
+        }
+
+        this.starts = startBuffer.toArray();
+        this.ends = endBuffer.toArray();
+        this.ordinals = ordinalBuffer.toArray();
+
+        final int[] ids = new int[starts.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        this.root = build(ids);
+    }
+
+    /**
+     *  Calls the consumer with the ordinal of every range containing the tick, in no particular order.
+     *  A restaurant with overlapping ranges is reported once per range.
+     */
+    public void forEachOpen(final int tick, final IntConsumer consumer) {
+        Node node = root;
+        while (node != null) {
+            if (tick < node.center) {
+                for (final int id : node.byStart) {
+                    if (starts[id] > tick) {
+                        break;
+                    }
+                    consumer.accept(ordinals[id]);
+                }
+                node = node.left;
+            } else {
+                for (final int id : node.byEnd) {
+                    if (ends[id] <= tick) {
+                        break;
+                    }
+                    consumer.accept(ordinals[id]);
+                }
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int[] openOrdinals(final int tick) {
+        final IntArrayBuilder result = new IntArrayBuilder();
+        forEachOpen(tick, result::add);
+        return result.toSortedDistinctArray();
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    @Override
+    public long estimatedSizeInBytes() {
+        long bytes = OpenRestaurantIndex.align(12 + 4 * 4) + 3 * OpenRestaurantIndex.arrayBytes(starts.length, 4);
+        for (final Node node : allNodes()) {
+            bytes += OpenRestaurantIndex.align(12 + 4 + 4 * 4) + 2 * OpenRestaurantIndex.arrayBytes(node.byStart.length, 4);
+        }
+        return bytes;
+    }
+
+    private List<Node> allNodes() {
+        final List<Node> nodes = new ArrayList<>();
+        final Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            final Node node = pending.pop();
+            nodes.add(node);
+            if (node.left != null) {
+                pending.push(node.left);
+            }
+            if (node.right != null) {
+                pending.push(node.right);
+            }
+        }
+        return nodes;
+    }
+
+    private Node build(final int[] ids) {
+        if (ids.length == 0) {
+            return null;
+        }
+
+        // The median start is contained by its own range, so every node takes at least one range and neither side gets more than half.
+        final int[] idsByStart = sortBy(ids, starts, false);
+        final int center = starts[idsByStart[idsByStart.length / 2]];
+
+        final IntArrayBuilder leftIds = new IntArrayBuilder();
+        final IntArrayBuilder rightIds = new IntArrayBuilder();
+        final IntArrayBuilder centerIds = new IntArrayBuilder();
+        for (final int id : ids) {
+            if (ends[id] <= center) {
+                leftIds.add(id);
+            } else if (starts[id] > center) {
+                rightIds.add(id);
+            } else {
+                centerIds.add(id);
+            }
+        }
+
+        final int[] nodeIds = centerIds.toArray();
+        return new Node(
+                center,
+                sortBy(nodeIds, starts, false),
+                sortBy(nodeIds, ends, true),
+                build(leftIds.toArray()),
+                build(rightIds.toArray())
+        );
+    }
+
+    /**
+     *  Sorts ids by key without boxing: key and id are packed into one long, key in the high bits.
+     */
+    private static int[] sortBy(final int[] ids, final int[] keys, final boolean descending) {
+        final long[] packed = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            final long key = descending ? -keys[ids[i]] : keys[ids[i]];
+            packed[i] = (key << 32) | ids[i];
+        }
+        Arrays.sort(packed);
+
+        final int[] sorted = new int[ids.length];
+        for (int i = 0; i < packed.length; i++) {
+            sorted[i] = (int) packed[i];
+        }
+        return sorted;
+    }
+}
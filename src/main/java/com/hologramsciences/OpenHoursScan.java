@@ -0,0 +1,85 @@
+package com.hologramsciences;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ *
+ *  No index at all: every query checks each restaurant, in one pass over the RestaurantStore columns of the day.
+ *
+ *  The check is the one of Restaurant.isOpen, written with non short-circuit operators so the loop body has no branches.
+ *
+ *  Stores of at least parallelThreshold restaurants are split into ordinal ranges scanned in parallel on the common
+ *  ForkJoinPool, a few per worker so uneven ranges even out, and the results are concatenated in ordinal order.
+ *
+ */
+public class OpenHoursScan implements OpenRestaurantIndex {
+    private static final int RANGES_PER_WORKER = 4;
+
+    private final RestaurantStore restaurants;
+    private final int parallelThreshold;
+
+    public OpenHoursScan(final RestaurantStore restaurants) {
+        this(restaurants, Integer.MAX_VALUE);
+    }
+
+    public OpenHoursScan(final RestaurantStore restaurants, final int parallelThreshold) {
+        this.restaurants = restaurants;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public int[] openOrdinals(final int tick) {
+        final int size = restaurants.size();
+        if (size < parallelThreshold) {
+            return openOrdinals(tick, 0, size);
+        }
+
+        final int ranges = RANGES_PER_WORKER * ForkJoinPool.getCommonPoolParallelism();
+        final int rangeSize = (size + ranges - 1) / ranges;
+        final int[][] rangeResults = IntStream.range(0, ranges)
+                .parallel()
+                .mapToObj(range -> openOrdinals(tick, Math.min(size, range * rangeSize), Math.min(size, (range + 1) * rangeSize)))
+                .toArray(int[][]::new);
+
+        int openCount = 0;
+        for (final int[] rangeResult : rangeResults) {
+            openCount += rangeResult.length;
+        }
+        final int[] result = new int[openCount];
+        int offset = 0;
+        for (final int[] rangeResult : rangeResults) {
+            System.arraycopy(rangeResult, 0, result, offset, rangeResult.length);
+            offset += rangeResult.length;
+        }
+        return result;
+    }
+
+    /**
+     *  Open ordinals in [fromOrdinal, toOrdinal), ascending.
+     */
+    private int[] openOrdinals(final int tick, final int fromOrdinal, final int toOrdinal) {
+        final int dayIndex = tick / 2 / WeekTicks.MINUTES_PER_DAY;
+        final int tickOfDay = tick - 2 * dayIndex * WeekTicks.MINUTES_PER_DAY;
+
+        final short[] startMinutes = restaurants.startMinutes(dayIndex);
+        final short[] endMinutes = restaurants.endMinutes(dayIndex);
+        final short[] carryOverEndMinutes = restaurants.carryOverEndMinutes(dayIndex);
+
+        // Closed days have start and end at CLOSED_MINUTE and no carry over, which fails both checks.
+        final IntArrayBuilder result = new IntArrayBuilder();
+        for (int ordinal = fromOrdinal; ordinal < toOrdinal; ordinal++) {
+            final boolean open = (tickOfDay < 2 * carryOverEndMinutes[ordinal])
+                    | (2 * startMinutes[ordinal] < tickOfDay & tickOfDay < 2 * endMinutes[ordinal]);
+            if (open) {
+                result.add(ordinal);
+            }
+        }
+        return result.toArray();
+    }
+
+    @Override
+    public long estimatedSizeInBytes() {
+        return 0;
+    }
+}
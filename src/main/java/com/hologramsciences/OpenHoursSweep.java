@@ -0,0 +1,139 @@
+package com.hologramsciences;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *
+ *  Answers "who is open" for many ticks at once, in one sweep over the open ranges of a fixed list of restaurants.
+ *
+ *  The ranges of WeekTicks.forEachOpenRange are kept as start and end events sorted by tick. A batch of ticks is
+ *  answered in ascending order, and moving from one tick to the next only applies the events in between, so the work
+ *  shared by nearby ticks is done once.
+ *
+ *  The sweep starts at the first tick of the batch, seeded with the restaurants the index has open there, and stops at
+ *  the last one. Batches spread so thinly that more than LOOKUP_EVENTS_PER_TICK events lie between their ticks, on
+ *  average, are answered by the index tick by tick instead.
+ *
+ */
+class OpenHoursSweep {
+    /**
+     *  About the number of events the sweep applies in the time the index answers one tick.
+     */
+    static final int LOOKUP_EVENTS_PER_TICK = 32;
+
+    private final RestaurantStore restaurants;
+    private final OpenRestaurantIndex openRestaurantIndex;
+
+    // tick << 32 | ordinal, ascending
+    private final long[] startEvents;
+    private final long[] endEvents;
+
+    OpenHoursSweep(final RestaurantStore restaurants, final OpenRestaurantIndex openRestaurantIndex) {
+        this.restaurants = restaurants;
+        this.openRestaurantIndex = openRestaurantIndex;
+
+        final LongArrayBuilder starts = new LongArrayBuilder();
+        final LongArrayBuilder ends = new LongArrayBuilder();
+        for (int ordinal = 0; ordinal < restaurants.size(); ordinal++) {
+            final long restaurantOrdinal = ordinal;
+            WeekTicks.forEachOpenRange(restaurants.getOpenHours(ordinal), (startTick, endTick) -> {
+                starts.add((long) startTick << 32 | restaurantOrdinal);
+                ends.add((long) endTick << 32 | restaurantOrdinal);
+            });
+        }
+        this.startEvents = starts.toSortedArray();
+        this.endEvents = ends.toSortedArray();
+    }
+
+    /**
+     *  The ascending, distinct ordinals open at each of the ticks, which must be ascending.
+     */
+    int[][] openOrdinals(final int[] ascendingTicks) {
+        for (int i = 1; i < ascendingTicks.length; i++) {
+            if (ascendingTicks[i] < ascendingTicks[i - 1]) {
+                throw new IllegalArgumentException("Ticks are not ascending at index " + i);
+            }
+        }
+        final int[][] result = new int[ascendingTicks.length][];
+        if (ascendingTicks.length == 0) {
+            return result;
+        }
+
+        final int firstTick = ascendingTicks[0];
+        final int lastTick = ascendingTicks[ascendingTicks.length - 1];
+        final long eventsBetween = (long) eventsUpTo(startEvents, lastTick) - eventsUpTo(startEvents, firstTick)
+                + eventsUpTo(endEvents, lastTick) - eventsUpTo(endEvents, firstTick);
+        if (eventsBetween > (long) ascendingTicks.length * LOOKUP_EVENTS_PER_TICK) {
+            for (int i = 0; i < ascendingTicks.length; i++) {
+                result[i] = i > 0 && ascendingTicks[i] == ascendingTicks[i - 1] ? result[i - 1] : openRestaurantIndex.openOrdinals(ascendingTicks[i]);
+            }
+            return result;
+        }
+
+        // Ranges of one restaurant can overlap, so it stays open until its last open range ends.
+        final int[] activeRanges = new int[restaurants.size()];
+        final BitSet open = new BitSet(restaurants.size());
+        result[0] = openRestaurantIndex.openOrdinals(firstTick);
+        for (final int ordinal : result[0]) {
+            WeekTicks.forEachOpenRange(restaurants.getOpenHours(ordinal), (startTick, endTick) -> {
+                if (startTick <= firstTick && firstTick < endTick) {
+                    activeRanges[ordinal]++;
+                }
+            });
+            open.set(ordinal);
+        }
+
+        int nextStart = eventsUpTo(startEvents, firstTick);
+        int nextEnd = eventsUpTo(endEvents, firstTick);
+        for (int i = 1; i < ascendingTicks.length; i++) {
+            final int tick = ascendingTicks[i];
+
+            // a range [start, end) contains the tick once its start is at or before it and its end is not
+            boolean changed = false;
+            for (; nextStart < startEvents.length && (int) (startEvents[nextStart] >>> 32) <= tick; nextStart++) {
+                final int ordinal = (int) startEvents[nextStart];
+                if (activeRanges[ordinal]++ == 0) {
+                    open.set(ordinal);
+                    changed = true;
+                }
+            }
+            for (; nextEnd < endEvents.length && (int) (endEvents[nextEnd] >>> 32) <= tick; nextEnd++) {
+                final int ordinal = (int) endEvents[nextEnd];
+                if (--activeRanges[ordinal] == 0) {
+                    open.clear(ordinal);
+                    changed = true;
+                }
+            }
+
+            result[i] = changed ? open.stream().toArray() : result[i - 1];
+        }
+        return result;
+    }
+
+    /**
+     *  The number of events at or before the tick, by binary search.
+     */
+    private static int eventsUpTo(final long[] events, final int tick) {
+        final int index = Arrays.binarySearch(events, (long) tick << 32 | 0xFFFFFFFFL);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static class LongArrayBuilder {
+        private long[] values = new long[16];
+        private int size = 0;
+
+        private void add(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private long[] toSortedArray() {
+            final long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
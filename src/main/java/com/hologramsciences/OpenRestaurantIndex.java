@@ -0,0 +1,29 @@
+package com.hologramsciences;
+
+/**
+ *
+ *  Answers which restaurants of a fixed list are open at a WeekTicks tick.
+ *
+ *  Restaurants are identified by their ordinal, the position in the list the index was built from.
+ *
+ */
+public interface OpenRestaurantIndex {
+
+    /**
+     *  The distinct ordinals of the restaurants open at the tick, ascending.
+     */
+    int[] openOrdinals(final int tick);
+
+    /**
+     *  Approximate heap used by the index, assuming compressed oops (16 byte array headers, 12 byte object headers, 4 byte references).
+     */
+    long estimatedSizeInBytes();
+
+    static long arrayBytes(final int length, final int elementBytes) {
+        return align(16L + (long) length * elementBytes);
+    }
+
+    static long align(final long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
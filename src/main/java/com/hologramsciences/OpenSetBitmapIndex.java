@@ -0,0 +1,211 @@
+package com.hologramsciences;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ *  Precomputed open set for every WeekTicks tick, so a query is an array index plus a bitmap iteration.
+ *
+ *  The sets are built by sweeping the week once, opening and closing restaurants as their ranges start and end.
+ *  Consecutive ticks without a change share the same CompressedBitmap, which keeps memory proportional to the
+ *  number of distinct open sets rather than the number of ticks.
+ *
+ *  The sets are kept in one bucket per day, so withOpenHours can change a single restaurant by copying only the
+ *  buckets of the days it touches, and only the sets within them that change.
+ *
+ */
+public class OpenSetBitmapIndex implements OpenRestaurantIndex {
+    // [dayIndex][tickOfDay]
+    private final CompressedBitmap[][] openSets;
+
+    public OpenSetBitmapIndex(final RestaurantStore restaurants) {
+        this.openSets = new CompressedBitmap[7][WeekTicks.TICKS_PER_DAY];
+
+        final IntArrayBuilder startEvents = new IntArrayBuilder();
+        final IntArrayBuilder endEvents = new IntArrayBuilder();
+        for (int ordinal = 0; ordinal < restaurants.size(); ordinal++) {
+            final int restaurantOrdinal = ordinal;
+            WeekTicks.forEachOpenRange(restaurants.getOpenHours(ordinal), (startTick, endTick) -> {
+                startEvents.add(startTick);
+                startEvents.add(restaurantOrdinal);
+                endEvents.add(endTick);
+                endEvents.add(restaurantOrdinal);
+            });
+        }
+        final long[] starts = sortEvents(startEvents.toArray());
+        final long[] ends = sortEvents(endEvents.toArray());
+
+        // Ranges of one restaurant can overlap, so it stays open until its last open range ends.
+        final int[] openRangeCounts = new int[restaurants.size()];
+        final BitSet open = new BitSet(restaurants.size());
+
+        BitSet snapshotBits = new BitSet();
+        CompressedBitmap snapshot = CompressedBitmap.of(snapshotBits);
+
+        int nextStart = 0;
+        int nextEnd = 0;
+        for (int tick = 0; tick < WeekTicks.TICKS_PER_WEEK; tick++) {
+            boolean changed = false;
+            for (; nextEnd < ends.length && eventTick(ends[nextEnd]) == tick; nextEnd++) {
+                final int ordinal = eventOrdinal(ends[nextEnd]);
+                if (--openRangeCounts[ordinal] == 0) {
+                    open.clear(ordinal);
+                }
+                changed = true;
+            }
+            for (; nextStart < starts.length && eventTick(starts[nextStart]) == tick; nextStart++) {
+                final int ordinal = eventOrdinal(starts[nextStart]);
+                if (openRangeCounts[ordinal]++ == 0) {
+                    open.set(ordinal);
+                }
+                changed = true;
+            }
+
+            if (changed && !open.equals(snapshotBits)) {
+                snapshotBits = (BitSet) open.clone();
+                snapshot = CompressedBitmap.of(open);
+            }
+            openSets[tick / WeekTicks.TICKS_PER_DAY][tick % WeekTicks.TICKS_PER_DAY] = snapshot;
+        }
+    }
+
+    private OpenSetBitmapIndex(final CompressedBitmap[][] openSets) {
+        this.openSets = openSets;
+    }
+
+    @Override
+    public int[] openOrdinals(final int tick) {
+        return openSets[tick / WeekTicks.TICKS_PER_DAY][tick % WeekTicks.TICKS_PER_DAY].toArray();
+    }
+
+    /**
+     *
+     *  A copy of the index in which the restaurant with the ordinal has the new open hours instead of the old ones,
+     *  both packed as in Restaurant, null for a restaurant that is not (or no longer) in the index.
+     *
+     *  This index is left unchanged. The copy shares the buckets of every day on which the restaurant's open ticks
+     *  do not change, and within a changed bucket every set outside the changed ticks. Only the ticks between the
+     *  range boundaries of the old and new hours are visited, and each changed set only has its chunk holding the
+     *  ordinal patched, see CompressedBitmap.with.
+     *
+     */
+    public OpenSetBitmapIndex withOpenHours(final int ordinal, final int[] oldOpenHours, final int[] newOpenHours) {
+        final int[] wasOpen = mergedOpenRanges(oldOpenHours);
+        final int[] isOpen = mergedOpenRanges(newOpenHours);
+
+        // The open ticks can only change between consecutive range boundaries of the old or new hours.
+        final int[] boundaries = new int[wasOpen.length + isOpen.length];
+        System.arraycopy(wasOpen, 0, boundaries, 0, wasOpen.length);
+        System.arraycopy(isOpen, 0, boundaries, wasOpen.length, isOpen.length);
+        Arrays.sort(boundaries);
+
+        final CompressedBitmap[][] patched = openSets.clone();
+        // Ticks often share one set, also across days, patch each shared set once so they keep sharing.
+        final Map<CompressedBitmap, CompressedBitmap> replacements = new IdentityHashMap<>();
+        for (int i = 0; i + 1 < boundaries.length; i++) {
+            final int from = boundaries[i];
+            final int to = boundaries[i + 1];
+            final boolean opens = contains(isOpen, from);
+            if (from == to || contains(wasOpen, from) == opens) {
+                continue;
+            }
+            for (int tick = from; tick < to; tick++) {
+                final int dayIndex = tick / WeekTicks.TICKS_PER_DAY;
+                final int tickOfDay = tick % WeekTicks.TICKS_PER_DAY;
+                if (patched[dayIndex] == openSets[dayIndex]) {
+                    patched[dayIndex] = openSets[dayIndex].clone();
+                }
+                final CompressedBitmap openSet = openSets[dayIndex][tickOfDay];
+                CompressedBitmap replacement = replacements.get(openSet);
+                if (replacement == null) {
+                    replacement = opens ? openSet.with(ordinal) : openSet.without(ordinal);
+                    replacements.put(openSet, replacement);
+                }
+                patched[dayIndex][tickOfDay] = replacement;
+            }
+        }
+        return new OpenSetBitmapIndex(patched);
+    }
+
+    /**
+     *  The open ranges of the packed open hours as ascending, disjoint start, end pairs, empty for null.
+     */
+    private static int[] mergedOpenRanges(final int[] openHours) {
+        if (openHours == null) {
+            return new int[0];
+        }
+        final IntArrayBuilder ranges = new IntArrayBuilder();
+        WeekTicks.forEachOpenRange(openHours, (startTick, endTick) -> {
+            ranges.add(startTick);
+            ranges.add(endTick);
+        });
+        // sorted by start, the (start, end) pairs pack like (tick, ordinal) events
+        final long[] sorted = sortEvents(ranges.toArray());
+
+        final int[] merged = new int[2 * sorted.length];
+        int size = 0;
+        for (final long range : sorted) {
+            final int start = eventTick(range);
+            final int end = eventOrdinal(range);
+            if (size > 0 && start <= merged[size - 1]) {
+                merged[size - 1] = Math.max(end, merged[size - 1]);
+            } else {
+                merged[size++] = start;
+                merged[size++] = end;
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    /**
+     *  Whether one of the ascending, disjoint start, end pairs contains the tick.
+     */
+    private static boolean contains(final int[] ranges, final int tick) {
+        for (int i = 0; i < ranges.length && ranges[i] <= tick; i += 2) {
+            if (tick < ranges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long estimatedSizeInBytes() {
+        long bytes = OpenRestaurantIndex.align(12 + 4) + OpenRestaurantIndex.arrayBytes(7, 4);
+        final Set<CompressedBitmap> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final CompressedBitmap[] day : openSets) {
+            bytes += OpenRestaurantIndex.arrayBytes(day.length, 4);
+            for (final CompressedBitmap openSet : day) {
+                if (counted.add(openSet)) {
+                    bytes += openSet.estimatedSizeInBytes();
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     *  Events come in as (tick, ordinal) pairs and are sorted by tick as tick << 32 | ordinal.
+     */
+    private static long[] sortEvents(final int[] pairs) {
+        final long[] events = new long[pairs.length / 2];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = ((long) pairs[2 * i] << 32) | pairs[2 * i + 1];
+        }
+        Arrays.sort(events);
+        return events;
+    }
+
+    private static int eventTick(final long event) {
+        return (int) (event >>> 32);
+    }
+
+    private static int eventOrdinal(final long event) {
+        return (int) event;
+    }
+}
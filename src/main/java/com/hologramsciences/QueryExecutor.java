@@ -0,0 +1,121 @@
+package com.hologramsciences;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ *  Bounded executor for blocking JDBC work behind the async service methods.
+ *
+ *  At most maxConcurrency queries run at once and at most maxQueued more wait for their turn. Past that, submit blocks
+ *  the caller for up to the submit timeout, which pushes back on callers that fan out faster than the database answers,
+ *  then fails with a RejectedExecutionException.
+ *
+ *  When the runtime has virtual threads (Java 21 and later) and they are preferred, every query gets its own virtual
+ *  thread and only the limits above apply, otherwise queries run on maxConcurrency daemon platform threads.
+ *
+ */
+public class QueryExecutor implements AutoCloseable {
+    private final ExecutorService executorService;
+    private final boolean virtualThreads;
+    private final int maxInFlight;
+    private final Semaphore permits;
+    private final Semaphore running;
+    private final long submitTimeoutNanos;
+
+    public QueryExecutor(final int maxConcurrency, final int maxQueued, final Duration submitTimeout, final boolean preferVirtualThreads) {
+        if (maxConcurrency < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("Invalid limits, maxConcurrency " + maxConcurrency + " maxQueued " + maxQueued);
+        }
+        final ExecutorService virtualThreadExecutor = preferVirtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+        this.virtualThreads = virtualThreadExecutor != null;
+        this.executorService = virtualThreads ? virtualThreadExecutor : Executors.newFixedThreadPool(maxConcurrency, daemonThreadFactory());
+        this.maxInFlight = maxConcurrency + maxQueued;
+        this.permits = new Semaphore(maxInFlight);
+        this.running = new Semaphore(maxConcurrency);
+        this.submitTimeoutNanos = submitTimeout.toNanos();
+    }
+
+    /**
+     *  Runs the query on the executor. The future completes with its result, or exceptionally with what it threw.
+     */
+    public <T> CompletableFuture<T> submit(final Callable<T> query) {
+        try {
+            if (!permits.tryAcquire(submitTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new RejectedExecutionException("Query executor saturated for " + Duration.ofNanos(submitTimeoutNanos));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting to submit a query", e);
+        }
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executorService.execute(() -> {
+                try {
+                    running.acquireUninterruptibly();
+                    try {
+                        result.complete(query.call());
+                    } finally {
+                        running.release();
+                    }
+                } catch (final Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+        return result;
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     *  Queries submitted or running, up to maxConcurrency + maxQueued.
+     */
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     *  Stops taking queries, the ones already submitted still run.
+     */
+    @Override
+    public void close() {
+        executorService.shutdown();
+    }
+
+    /**
+     *  Executors.newVirtualThreadPerTaskExecutor, looked up reflectively since the build targets Java 8. Null when not available.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "query-executor-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
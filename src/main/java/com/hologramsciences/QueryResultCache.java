@@ -0,0 +1,151 @@
+package com.hologramsciences;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+
+import com.hologramsciences.SQLRestaurantService.ExceptionThrowingFunction;
+
+/**
+ *
+ *  Bounded read-through cache of query results.
+ *
+ *  Holds at most maximumSize results, dropping the least recently used one past that, and reloads a result once it is
+ *  older than the time to live. Concurrent misses for the same key share one load: the first caller runs the query,
+ *  the others wait for its result, or its exception. Failed loads are not cached.
+ *
+ *  Callers share the cached values, so they should be immutable or treated as such.
+ *
+ */
+public class QueryResultCache<K, V> {
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+
+    // guarded by itself, in access order
+    private final Map<K, Entry<V>> entries;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    private static class Entry<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private volatile long loadedAtNanos;
+
+        private boolean isExpired(final long nowNanos, final long timeToLiveNanos) {
+            return result.isDone() && nowNanos - loadedAtNanos >= timeToLiveNanos;
+        }
+    }
+
+    public QueryResultCache(final int maximumSize, final Duration timeToLive) {
+        this(maximumSize, timeToLive, System::nanoTime);
+    }
+
+    QueryResultCache(final int maximumSize, final Duration timeToLive, final LongSupplier nanoTime) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive, was " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                return size() > QueryResultCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     *  The cached result for the key, loading it with the loader when missing or expired.
+     */
+    public <E extends Exception> V get(final K key, final ExceptionThrowingFunction<K, V, E> loader) throws E {
+        final Entry<V> entry;
+        final boolean loading;
+        synchronized (entries) {
+            final Entry<V> cached = entries.get(key);
+            loading = cached == null || cached.isExpired(nanoTime.getAsLong(), timeToLiveNanos);
+            if (loading) {
+                missCount++;
+                entry = new Entry<>();
+                entries.put(key, entry);
+            } else {
+                hitCount++;
+                entry = cached;
+            }
+        }
+        if (!loading) {
+            return await(entry);
+        }
+
+        try {
+            final V value = loader.apply(key);
+            entry.loadedAtNanos = nanoTime.getAsLong();
+            entry.result.complete(value);
+            return value;
+        } catch (final Throwable e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     *  Drops every cached result, loads running at the time still answer the callers waiting for them.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public void invalidate(final K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (entries) {
+            return hitCount;
+        }
+    }
+
+    /**
+     *  Calls that found no usable result, each ran the loader itself.
+     */
+    public long getMissCount() {
+        synchronized (entries) {
+            return missCount;
+        }
+    }
+
+    /**
+     *  Waits for the result of a load, rethrowing what the loader threw.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Exception> V await(final Entry<V> entry) throws E {
+        try {
+            return entry.result.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+}
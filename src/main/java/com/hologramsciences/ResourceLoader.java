@@ -4,10 +4,25 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
@@ -17,6 +32,8 @@ import io.atlassian.fugue.Option;
 
 
 public class ResourceLoader {
+    private static final long DEFAULT_CHUNK_BYTES = 16 * 1024 * 1024;
+
     public static final String readResourceAsString(final String resourceName) throws IOException {
         try (
                 final InputStream inputStream = ResourceLoader.class.getClassLoader().getResourceAsStream(resourceName);
@@ -32,18 +49,148 @@ public class ResourceLoader {
         }
     }
 
+    /**
+     *  Reads the whole resource into one char buffer, without splitting it into lines or Strings.
+     */
+    public static final CharBuffer readResourceAsCharBuffer(final String resourceName) throws IOException {
+        try (final InputStream inputStream = ResourceLoader.class.getClassLoader().getResourceAsStream(resourceName)) {
+            return readAsCharBuffer(inputStream);
+        }
+    }
+
+    /**
+     *  Reads the rest of a UTF-8 stream into one char buffer, the stream is left open.
+     */
+    public static final CharBuffer readAsCharBuffer(final InputStream inputStream) throws IOException {
+        final Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        char[] chars = new char[Math.max(inputStream.available(), 8192)];
+        int length = 0;
+        int read;
+        while ((read = reader.read(chars, length, chars.length - length)) >= 0) {
+            length += read;
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, 2 * chars.length);
+            }
+        }
+        return CharBuffer.wrap(chars, 0, length);
+    }
+
     public static final <T> List<T> parseOptionCSV(final String resourceName, final Function<CSVRecord, Option<T>> parser) throws IOException {
-        try (
-                final InputStream inputStream = ResourceLoader.class.getClassLoader().getResourceAsStream(resourceName);
-                final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))
-        ) {
+        try (final Stream<T> stream = streamOptionCSV(resourceName, parser)) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     *
+     *  Lazy version of parseOptionCSV: records are read and parsed as the stream is consumed, so memory stays bounded
+     *  however large the resource is. The resource is closed when the stream is, use try-with-resources.
+     *
+     */
+    public static final <T> Stream<T> streamOptionCSV(final String resourceName, final Function<CSVRecord, Option<T>> parser) throws IOException {
+        final InputStream inputStream = ResourceLoader.class.getClassLoader().getResourceAsStream(resourceName);
+        final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        final CSVParser csvParser;
+        try {
+            csvParser = CSVParser.parse(bufferedReader, CSVFormat.RFC4180);
+        } catch (final IOException e) {
+            bufferedReader.close();
+            throw e;
+        }
 
-            final List<T> result = new ArrayList<>();
-            for (final CSVRecord record: CSVParser.parse(bufferedReader, CSVFormat.RFC4180)) {
-                parser.apply(record).forEach(t -> result.add(t));
+        return StreamSupport.stream(csvParser.spliterator(), false)
+                .flatMap(record -> parser.apply(record).fold(Stream::<T>empty, Stream::of))
+                .onClose(() -> {
+                    try {
+                        csvParser.close();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     *  Pushes every parsed item of the resource to the sink as it is read, without collecting them.
+     */
+    public static final <T> void forEachOptionCSV(final String resourceName, final Function<CSVRecord, Option<T>> parser, final Consumer<? super T> sink) throws IOException {
+        try (final Stream<T> stream = streamOptionCSV(resourceName, parser)) {
+            stream.forEach(sink);
+        }
+    }
+
+    /**
+     *
+     *  Memory maps a file and parses it in parallel on the pool, one task per chunk.
+     *
+     *  Chunks are cut at line breaks, roughly chunkBytes apart, so records must not span lines. Each chunk is decoded
+     *  from UTF-8 on its own, which is safe because '\n' never occurs inside a multi-byte sequence.
+     *  The parsed chunks are returned in file order.
+     *
+     *  A chunk can be mapped only up to Integer.MAX_VALUE bytes, so a line too long to fit in one fails with an
+     *  IOException.
+     *
+     */
+    public static final <T> List<T> parseFileInChunks(final Path path, final long chunkBytes, final ForkJoinPool pool, final Function<CharBuffer, T> chunkParser) throws IOException {
+        return parseFileInChunks(path, chunkBytes, Integer.MAX_VALUE, pool, chunkParser);
+    }
+
+    static final <T> List<T> parseFileInChunks(final Path path, final long chunkBytes, final int maxChunkBytes, final ForkJoinPool pool, final Function<CharBuffer, T> chunkParser) throws IOException {
+        final List<MappedByteBuffer> chunks = new ArrayList<>();
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            long chunkStart = 0;
+            while (chunkStart < size) {
+                // cut at half the limit, so the line running past the cut has the other half to end in
+                final long cut = Math.min(chunkStart + Math.max(1, Math.min(chunkBytes, maxChunkBytes / 2)), size);
+                final long chunkEnd = lineBoundaryAfter(channel, cut, chunkStart + maxChunkBytes);
+                if (chunkEnd < 0) {
+                    throw new IOException("No line break within " + maxChunkBytes + " bytes after offset " + chunkStart + " of " + path);
+                }
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart));
+                chunkStart = chunkEnd;
             }
+        }
 
-            return result;
+        final List<ForkJoinTask<T>> tasks = new ArrayList<>();
+        for (final MappedByteBuffer chunk : chunks) {
+            tasks.add(pool.submit(() -> chunkParser.apply(StandardCharsets.UTF_8.decode(chunk))));
+        }
+
+        final List<T> result = new ArrayList<>(tasks.size());
+        for (final ForkJoinTask<T> task : tasks) {
+            result.add(task.join());
+        }
+        return result;
+    }
+
+    public static final <T> List<T> parseFileInChunks(final Path path, final Function<CharBuffer, T> chunkParser) throws IOException {
+        return parseFileInChunks(path, DEFAULT_CHUNK_BYTES, ForkJoinPool.commonPool(), chunkParser);
+    }
+
+    /**
+     *  The offset just after the first '\n' at or after position, or the end of the file. -1 if there is no '\n'
+     *  before limit and the file goes on past it.
+     */
+    private static long lineBoundaryAfter(final FileChannel channel, final long position, final long limit) throws IOException {
+        final long size = channel.size();
+        final long end = Math.min(size, limit);
+        final ByteBuffer window = ByteBuffer.allocate(64 * 1024);
+        long offset = position;
+        while (offset < end) {
+            window.clear();
+            window.limit((int) Math.min(window.capacity(), end - offset));
+            final int read = channel.read(window, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
         }
+        return end < size ? -1 : size;
     }
 }
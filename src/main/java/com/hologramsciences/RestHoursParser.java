@@ -0,0 +1,287 @@
+package com.hologramsciences;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ *
+ *  Single pass parser for the rest_hours.csv format, writing straight into a RestaurantStore.Builder.
+ *
+ *  Each record is an RFC 4180 line of two fields, the name and the open hours:
+ *
+ *   "Burger Bar","Mon,Tue,Wed,Thu,Sun|11:00-22:00;Fri,Sat|11:00-0:00"
+ *
+ *  The hours grammar is recognised directly on the characters, so apart from names with escaped quotes no intermediate
+ *  Strings, arrays or LocalTimes are created. The results are the same as CSVRestaurantService.parse:
+ *
+ *  - records without both fields, or without any open day, are skipped
+ *  - groups whose start and end are equal are skipped, as are unknown day names
+ *  - later groups override earlier ones for the same day
+ *
+ *  Malformed hours throw an IllegalArgumentException naming the record.
+ *
+ */
+public class RestHoursParser {
+    private final char[] chars;
+    private final int end;
+    private int pos;
+    private int recordNumber = 0;
+
+    // bounds of the last field read by readField
+    private int fieldStart;
+    private int fieldEnd;
+    private boolean fieldHasEscapedQuotes;
+
+    private final int[] openHours = new int[7];
+
+    public RestHoursParser(final char[] chars, final int start, final int end) {
+        this.chars = chars;
+        this.pos = start < end && chars[start] == '\uFEFF' ? start + 1 : start;
+        this.end = end;
+    }
+
+    public static RestaurantStore parse(final CharBuffer input) {
+        final RestaurantStore.Builder builder = new RestaurantStore.Builder();
+        parseInto(input, builder);
+        return builder.build();
+    }
+
+    /**
+     *  Parses a rest_hours file from the filesystem, memory mapped and split into chunks parsed in parallel.
+     */
+    public static RestaurantStore parseFile(final Path path) throws IOException {
+        final RestaurantStore.Builder builder = new RestaurantStore.Builder();
+        for (final RestaurantStore chunk : ResourceLoader.parseFileInChunks(path, RestHoursParser::parse)) {
+            builder.addAll(chunk);
+        }
+        return builder.build();
+    }
+
+    public static void parseInto(final CharBuffer input, final RestaurantStore.Builder builder) {
+        if (input.hasArray()) {
+            new RestHoursParser(input.array(), input.arrayOffset() + input.position(), input.arrayOffset() + input.limit()).parseInto(builder);
+        } else {
+            final char[] copy = new char[input.remaining()];
+            input.duplicate().get(copy);
+            new RestHoursParser(copy, 0, copy.length).parseInto(builder);
+        }
+    }
+
+    public void parseInto(final RestaurantStore.Builder builder) {
+        while (pos < end) {
+            recordNumber++;
+
+            readField();
+            final int nameStart = fieldStart;
+            final int nameEnd = fieldEnd;
+            final boolean nameHasEscapedQuotes = fieldHasEscapedQuotes;
+
+            if (pos < end && chars[pos] == ',') {
+                pos++;
+                readField();
+                if (parseOpenHours(fieldStart, fieldEnd)) {
+                    final int ordinal = nameHasEscapedQuotes
+                            ? builder.addName(unescape(nameStart, nameEnd))
+                            : builder.addName(chars, nameStart, nameEnd - nameStart);
+                    for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                        if (openHours[dayIndex] != Restaurant.CLOSED) {
+                            builder.setOpenHours(ordinal, dayIndex, openHours[dayIndex] >>> 16, openHours[dayIndex] & 0xFFFF);
+                        }
+                    }
+                }
+            }
+            skipToNextRecord();
+        }
+    }
+
+    /**
+     *  Reads one, possibly quoted, field starting at pos and leaves pos on the delimiter after it.
+     */
+    private void readField() {
+        fieldHasEscapedQuotes = false;
+        if (pos < end && chars[pos] == '"') {
+            fieldStart = ++pos;
+            while (true) {
+                if (pos >= end) {
+                    throw invalid("unterminated quoted field");
+                }
+                if (chars[pos] == '"') {
+                    if (pos + 1 < end && chars[pos + 1] == '"') {
+                        fieldHasEscapedQuotes = true;
+                        pos += 2;
+                        continue;
+                    }
+                    fieldEnd = pos++;
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        fieldStart = pos;
+        while (pos < end && chars[pos] != ',' && chars[pos] != '\n' && chars[pos] != '\r') {
+            pos++;
+        }
+        fieldEnd = pos;
+    }
+
+    /**
+     *  Skips any further fields, and anything else left on the record, then the line break.
+     */
+    private void skipToNextRecord() {
+        while (pos < end && chars[pos] != '\n' && chars[pos] != '\r') {
+            pos++;
+            if (pos < end && chars[pos - 1] == ',') {
+                readField();
+            }
+        }
+        if (pos < end && chars[pos] == '\r') {
+            pos++;
+        }
+        if (pos < end && chars[pos] == '\n') {
+            pos++;
+        }
+    }
+
+    /**
+     *  Parses "Days|HH:MM-HH:MM;..." into openHours, returns whether any day is open.
+     */
+    private boolean parseOpenHours(final int from, final int to) {
+        Arrays.fill(openHours, Restaurant.CLOSED);
+        boolean anyOpen = false;
+
+        int groupStart = from;
+        while (groupStart < to) {
+            final int groupEnd = indexOf(';', groupStart, to);
+
+            final int start = skipWhitespace(groupStart, groupEnd);
+            final int stop = trimWhitespace(start, groupEnd);
+            if (start < stop) {
+                final int bar = indexOf('|', start, stop);
+                if (bar == stop) {
+                    throw invalid("missing '|' between days and hours");
+                }
+
+                final int dash = indexOf('-', bar + 1, stop);
+                if (dash == stop) {
+                    throw invalid("missing '-' between start and end time");
+                }
+                final int startMinute = parseMinuteOfDay(skipWhitespace(bar + 1, dash), trimWhitespace(bar + 1, dash));
+                final int endMinute = parseMinuteOfDay(skipWhitespace(dash + 1, stop), stop);
+
+                if (startMinute != endMinute) {
+                    int dayStart = start;
+                    while (dayStart <= bar) {
+                        final int dayEnd = indexOf(',', dayStart, bar);
+                        final int dayIndex = dayIndexOf(skipWhitespace(dayStart, dayEnd), trimWhitespace(dayStart, dayEnd));
+                        if (dayIndex >= 0) {
+                            openHours[dayIndex] = Restaurant.pack(startMinute, endMinute);
+                            anyOpen = true;
+                        }
+                        dayStart = dayEnd + 1;
+                    }
+                }
+            }
+            groupStart = groupEnd + 1;
+        }
+        return anyOpen;
+    }
+
+    /**
+     *  H:MM or HH:MM, as accepted by LocalTime.parse for whole minutes, plus a single digit hour.
+     */
+    private int parseMinuteOfDay(final int from, final int to) {
+        final int colon = indexOf(':', from, to);
+        if (colon == from || colon - from > 2 || to - colon != 3) {
+            throw invalid("time '" + new String(chars, from, to - from) + "' is not HH:MM");
+        }
+        final int hour = parseDigits(from, colon);
+        final int minute = parseDigits(colon + 1, to);
+        if (hour > 23 || minute > 59) {
+            throw invalid("time '" + new String(chars, from, to - from) + "' is out of range");
+        }
+        return hour * 60 + minute;
+    }
+
+    private int parseDigits(final int from, final int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            final char c = chars[i];
+            if (c < '0' || c > '9') {
+                throw invalid("unexpected '" + c + "' in time");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     *  Index in WeekTicks.dayIndex order for Mon..Sun, as in CSVRestaurantService.getDayOfWeek, or -1.
+     */
+    private int dayIndexOf(final int from, final int to) {
+        if (to - from != 3) {
+            return -1;
+        }
+        final char a = chars[from];
+        final char b = chars[from + 1];
+        final char c = chars[from + 2];
+        if (a == 'M' && b == 'o' && c == 'n') {
+            return 0;
+        } else if (a == 'T' && b == 'u' && c == 'e') {
+            return 1;
+        } else if (a == 'W' && b == 'e' && c == 'd') {
+            return 2;
+        } else if (a == 'T' && b == 'h' && c == 'u') {
+            return 3;
+        } else if (a == 'F' && b == 'r' && c == 'i') {
+            return 4;
+        } else if (a == 'S' && b == 'a' && c == 't') {
+            return 5;
+        } else if (a == 'S' && b == 'u' && c == 'n') {
+            return 6;
+        } else {
+            return -1;
+        }
+    }
+
+    private int indexOf(final char c, final int from, final int to) {
+        int i = from;
+        while (i < to && chars[i] != c) {
+            i++;
+        }
+        return i;
+    }
+
+    private int skipWhitespace(final int from, final int to) {
+        int i = from;
+        while (i < to && Character.isWhitespace(chars[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private int trimWhitespace(final int from, final int to) {
+        int i = to;
+        while (i > from && Character.isWhitespace(chars[i - 1])) {
+            i--;
+        }
+        return i;
+    }
+
+    private String unescape(final int from, final int to) {
+        final StringBuilder name = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            name.append(chars[i]);
+            if (chars[i] == '"') {
+                i++;
+            }
+        }
+        return name.toString();
+    }
+
+    private IllegalArgumentException invalid(final String message) {
+        return new IllegalArgumentException("Invalid rest_hours record " + recordNumber + ": " + message);
+    }
+}
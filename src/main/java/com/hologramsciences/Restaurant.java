@@ -3,23 +3,116 @@ package com.hologramsciences;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 
 public class Restaurant {
+    /**
+     *  Packed value of a day without open hours.
+     */
+    public static final int CLOSED = -1;
+
     private final String name;
-    private final Map<DayOfWeek, OpenHours> openHoursMap;
+
+    /**
+     *  Indexed by WeekTicks.dayIndex, each day is startMinuteOfDay << 16 | endMinuteOfDay, or CLOSED.
+     *  Open hours have minute precision, as in rest_hours.csv.
+     */
+    private final int[] openHours;
 
     public Restaurant(final String name, final Map<DayOfWeek, OpenHours> openHoursMap) {
+        this(name, pack(openHoursMap));
+    }
+
+    Restaurant(final String name, final int[] openHours) {
         this.name = name;
-        this.openHoursMap = openHoursMap;
+        this.openHours = openHours;
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     *  Built from the packed open hours on every call, prefer the per day accessors on hot paths.
+     */
     public Map<DayOfWeek, OpenHours> getOpenHoursMap() {
-        return openHoursMap;
+        final Map<DayOfWeek, OpenHours> openHoursMap = new EnumMap<>(DayOfWeek.class);
+        for (final DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            final int dayIndex = WeekTicks.dayIndex(dayOfWeek);
+            if (isOpenOn(dayIndex)) {
+                openHoursMap.put(dayOfWeek, new OpenHours(toLocalTime(getStartMinute(dayIndex)), toLocalTime(getEndMinute(dayIndex))));
+            }
+        }
+        return Collections.unmodifiableMap(openHoursMap);
+    }
+
+    /**
+     *  The packed open hours themselves, callers must not modify them.
+     */
+    int[] openHours() {
+        return openHours;
+    }
+
+    public boolean isOpenOn(final int dayIndex) {
+        return openHours[dayIndex] != CLOSED;
+    }
+
+    public int getStartMinute(final int dayIndex) {
+        return openHours[dayIndex] >>> 16;
+    }
+
+    public int getEndMinute(final int dayIndex) {
+        return openHours[dayIndex] & 0xFFFF;
+    }
+
+    /**
+     *  Same rules as CSVRestaurantService.getOpenRestaurants, without allocating or looking anything up in a map.
+     */
+    public boolean isOpen(final DayOfWeek dayOfWeek, final LocalTime localTime) {
+        final int dayIndex = WeekTicks.dayIndex(dayOfWeek);
+        if (!isOpenOn(dayIndex)) {
+            return false;
+        }
+
+        final int tickOfDay = WeekTicks.ofDay(localTime);
+
+        final int previousDayIndex = (dayIndex + 6) % 7;
+        if (isOpenOn(previousDayIndex) && spansMidnight(getStartMinute(previousDayIndex), getEndMinute(previousDayIndex))
+                && tickOfDay < 2 * getEndMinute(previousDayIndex)) {
+            return true;
+        }
+        return 2 * getStartMinute(dayIndex) < tickOfDay && tickOfDay < 2 * getEndMinute(dayIndex);
+    }
+
+    public static int pack(final int startMinute, final int endMinute) {
+        return startMinute << 16 | endMinute;
+    }
+
+    /**
+     *  Minute based version of OpenHours.spansMidnight, ranges ending less than a whole hour before they start do not count.
+     */
+    public static boolean spansMidnight(final int startMinute, final int endMinute) {
+        if (startMinute == 0 || endMinute == 0) {
+            return false;
+        } else {
+            return (endMinute - startMinute) / 60 < 0;
+        }
+    }
+
+    private static int[] pack(final Map<DayOfWeek, OpenHours> openHoursMap) {
+        final int[] openHours = new int[7];
+        Arrays.fill(openHours, CLOSED);
+        for (final Map.Entry<DayOfWeek, OpenHours> entry : openHoursMap.entrySet()) {
+            openHours[WeekTicks.dayIndex(entry.getKey())] = pack(WeekTicks.minuteOfDay(entry.getValue().getStartTime()), WeekTicks.minuteOfDay(entry.getValue().getEndTime()));
+        }
+        return openHours;
+    }
+
+    private static LocalTime toLocalTime(final int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
     }
 
     public static class OpenHours {
@@ -56,11 +149,28 @@ public class Restaurant {
         }
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Restaurant that = (Restaurant) o;
+        return name.equals(that.name) && Arrays.equals(openHours, that.openHours);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + Arrays.hashCode(openHours);
+    }
+
     @Override
     public String toString() {
         return "Restaurant{" +
                 "name='" + name + '\'' +
-                ", openHoursMap=" + openHoursMap +
+                ", openHoursMap=" + getOpenHoursMap() +
                 '}';
     }
 }
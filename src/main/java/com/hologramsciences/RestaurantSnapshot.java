@@ -0,0 +1,119 @@
+package com.hologramsciences;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *
+ *  Binary snapshot of a RestaurantStore, so a service can start without parsing rest_hours text.
+ *
+ *  Layout, big endian, each column directly after the previous one:
+ *
+ *   int       MAGIC
+ *   int       VERSION
+ *   int       restaurant count n
+ *   int       name char count c
+ *   int[n+1]  name offsets
+ *   char[c]   names
+ *   short[n]  start minute, for each of the 7 days in WeekTicks.dayIndex order, RestaurantStore.CLOSED_MINUTE when closed
+ *   short[n]  end minute, for each of the 7 days
+ *
+ *  read memory maps the file: names are read from the mapping when a Restaurant is asked for, only the open hour
+ *  columns are copied to the heap, in bulk, since every index build or scan reads all of them anyway.
+ *  Each column is mapped on its own and must stay under 2GB.
+ *
+ */
+public class RestaurantSnapshot {
+    public static final int MAGIC = 0x52485353;
+    public static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 4 * 4;
+
+    public static void write(final RestaurantStore store, final Path path) throws IOException {
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024))) {
+            final CharBuffer names = store.names();
+            final IntBuffer nameOffsets = store.nameOffsets();
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(store.size());
+            out.writeInt(names.limit());
+
+            for (int i = 0; i <= store.size(); i++) {
+                out.writeInt(nameOffsets.get(i));
+            }
+            for (int i = 0; i < names.limit(); i++) {
+                out.writeChar(names.get(i));
+            }
+            for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                for (final short startMinute : store.startMinutes(dayIndex)) {
+                    out.writeShort(startMinute);
+                }
+            }
+            for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                for (final short endMinute : store.endMinutes(dayIndex)) {
+                    out.writeShort(endMinute);
+                }
+            }
+        }
+    }
+
+    public static RestaurantStore read(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a restaurant snapshot: " + path);
+            }
+            final IntBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).asIntBuffer();
+            if (header.get(0) != MAGIC) {
+                throw new IOException("Not a restaurant snapshot: " + path);
+            }
+            if (header.get(1) != VERSION) {
+                throw new IOException("Unsupported restaurant snapshot version " + header.get(1) + ": " + path);
+            }
+            final int size = header.get(2);
+            final int nameChars = header.get(3);
+            // checked against the file before they size any mapping or array
+            final long bodyBytes = channel.size() - HEADER_BYTES;
+            if (size < 0 || nameChars < 0 || 4L * (size + 1L) + 2L * nameChars + 4L * 7 * size > bodyBytes) {
+                throw new IOException("Corrupt restaurant snapshot header, " + size + " restaurants and " + nameChars + " name chars: " + path);
+            }
+
+            final long nameOffsetsStart = HEADER_BYTES;
+            final long namesStart = nameOffsetsStart + 4L * (size + 1L);
+            final long startMinutesStart = namesStart + 2L * nameChars;
+            final long endMinutesStart = startMinutesStart + 2L * 7 * size;
+            if (channel.size() != endMinutesStart + 2L * 7 * size) {
+                throw new IOException("Truncated restaurant snapshot: " + path);
+            }
+
+            final IntBuffer nameOffsets = map(channel, nameOffsetsStart, 4L * (size + 1L)).asIntBuffer();
+            final CharBuffer names = map(channel, namesStart, 2L * nameChars).asCharBuffer();
+            for (int i = 0; i <= size; i++) {
+                if (nameOffsets.get(i) < (i == 0 ? 0 : nameOffsets.get(i - 1)) || nameOffsets.get(i) > nameChars) {
+                    throw new IOException("Corrupt restaurant snapshot name offset " + i + ": " + path);
+                }
+            }
+
+            final short[][] startMinutes = new short[7][size];
+            final short[][] endMinutes = new short[7][size];
+            for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                map(channel, startMinutesStart + 2L * dayIndex * size, 2L * size).asShortBuffer().get(startMinutes[dayIndex]);
+                map(channel, endMinutesStart + 2L * dayIndex * size, 2L * size).asShortBuffer().get(endMinutes[dayIndex]);
+            }
+
+            return new RestaurantStore(size, names, nameOffsets, startMinutes, endMinutes);
+        }
+    }
+
+    private static MappedByteBuffer map(final FileChannel channel, final long position, final long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+}
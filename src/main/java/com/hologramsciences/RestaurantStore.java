@@ -0,0 +1,253 @@
+package com.hologramsciences;
+
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ *
+ *  Immutable, columnar store of parsed restaurants.
+ *
+ *  All names share one char buffer, and open hours are kept per day in parallel short arrays indexed by ordinal,
+ *  so full-table filters such as OpenHoursScan run over contiguous primitive memory instead of chasing Restaurant objects.
+ *
+ *  Restaurant instances are only created when asked for, through get or asList. The name columns are buffers, so a store
+ *  read by RestaurantSnapshot serves names straight from the mapped file.
+ *
+ */
+public class RestaurantStore {
+    public static final short CLOSED_MINUTE = -1;
+
+    private final int size;
+    private final CharBuffer names;
+    private final IntBuffer nameOffsets;
+
+    // [dayIndex][ordinal], CLOSED_MINUTE on days without open hours
+    private final short[][] startMinutes;
+    private final short[][] endMinutes;
+
+    // [dayIndex][ordinal], end minute of the previous day's hours if they carry over into this day, else 0
+    private final short[][] carryOverEndMinutes;
+
+    RestaurantStore(final int size, final CharBuffer names, final IntBuffer nameOffsets, final short[][] startMinutes, final short[][] endMinutes) {
+        this.size = size;
+        this.names = names;
+        this.nameOffsets = nameOffsets;
+        this.startMinutes = startMinutes;
+        this.endMinutes = endMinutes;
+        this.carryOverEndMinutes = new short[7][size];
+
+        for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+            final int previousDayIndex = (dayIndex + 6) % 7;
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (startMinutes[dayIndex][ordinal] != CLOSED_MINUTE
+                        && startMinutes[previousDayIndex][ordinal] != CLOSED_MINUTE
+                        && Restaurant.spansMidnight(startMinutes[previousDayIndex][ordinal], endMinutes[previousDayIndex][ordinal])) {
+                    carryOverEndMinutes[dayIndex][ordinal] = endMinutes[previousDayIndex][ordinal];
+                }
+            }
+        }
+    }
+
+    public static RestaurantStore of(final List<Restaurant> restaurants) {
+        final Builder builder = new Builder();
+        for (final Restaurant restaurant : restaurants) {
+            builder.add(restaurant);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(final int ordinal) {
+        final int offset = nameOffsets.get(ordinal);
+        final int length = nameOffsets.get(ordinal + 1) - offset;
+        if (names.hasArray()) {
+            return new String(names.array(), names.arrayOffset() + offset, length);
+        }
+        final char[] name = new char[length];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = names.get(offset + i);
+        }
+        return new String(name);
+    }
+
+    /**
+     *  Packed like Restaurant open hours, startMinute << 16 | endMinute, or Restaurant.CLOSED.
+     */
+    public int getOpenHours(final int ordinal, final int dayIndex) {
+        if (startMinutes[dayIndex][ordinal] == CLOSED_MINUTE) {
+            return Restaurant.CLOSED;
+        }
+        return Restaurant.pack(startMinutes[dayIndex][ordinal], endMinutes[dayIndex][ordinal]);
+    }
+
+    public int[] getOpenHours(final int ordinal) {
+        final int[] openHours = new int[7];
+        for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+            openHours[dayIndex] = getOpenHours(ordinal, dayIndex);
+        }
+        return openHours;
+    }
+
+    public Restaurant get(final int ordinal) {
+        return new Restaurant(getName(ordinal), getOpenHours(ordinal));
+    }
+
+    /**
+     *  Read only view, each get creates the Restaurant from the columns.
+     */
+    public List<Restaurant> asList() {
+        return new RestaurantList();
+    }
+
+    CharBuffer names() {
+        return names.duplicate();
+    }
+
+    IntBuffer nameOffsets() {
+        return nameOffsets.duplicate();
+    }
+
+    short[] startMinutes(final int dayIndex) {
+        return startMinutes[dayIndex];
+    }
+
+    short[] endMinutes(final int dayIndex) {
+        return endMinutes[dayIndex];
+    }
+
+    short[] carryOverEndMinutes(final int dayIndex) {
+        return carryOverEndMinutes[dayIndex];
+    }
+
+    private class RestaurantList extends AbstractList<Restaurant> implements RandomAccess {
+        @Override
+        public Restaurant get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return RestaurantStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    public static class Builder {
+        private int size = 0;
+        private char[] names = new char[256];
+        private int[] nameOffsets = new int[17];
+        private short[][] startMinutes = new short[7][16];
+        private short[][] endMinutes = new short[7][16];
+
+        public Builder add(final Restaurant restaurant) {
+            final int ordinal = addName(restaurant.getName());
+            for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                if (restaurant.isOpenOn(dayIndex)) {
+                    setOpenHours(ordinal, dayIndex, restaurant.getStartMinute(dayIndex), restaurant.getEndMinute(dayIndex));
+                }
+            }
+            return this;
+        }
+
+        /**
+         *  Appends a restaurant, closed on every day until its open hours are set. Returns its ordinal.
+         */
+        public int addName(final CharSequence name) {
+            ensureRowCapacity(size + 1);
+            ensureNameCapacity(nameOffsets[size] + name.length());
+
+            int offset = nameOffsets[size];
+            for (int i = 0; i < name.length(); i++) {
+                names[offset++] = name.charAt(i);
+            }
+            return addRow(offset);
+        }
+
+        /**
+         *  Same as addName(CharSequence), copying the name straight out of a parse buffer.
+         */
+        public int addName(final char[] chars, final int offset, final int length) {
+            ensureRowCapacity(size + 1);
+            ensureNameCapacity(nameOffsets[size] + length);
+
+            System.arraycopy(chars, offset, names, nameOffsets[size], length);
+            return addRow(nameOffsets[size] + length);
+        }
+
+        private int addRow(final int nameEnd) {
+            nameOffsets[size + 1] = nameEnd;
+            for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                startMinutes[dayIndex][size] = CLOSED_MINUTE;
+                endMinutes[dayIndex][size] = CLOSED_MINUTE;
+            }
+            return size++;
+        }
+
+        /**
+         *  Appends every restaurant of the store, in order.
+         */
+        public Builder addAll(final RestaurantStore store) {
+            ensureRowCapacity(size + store.size);
+            ensureNameCapacity(nameOffsets[size] + store.names.limit());
+
+            final int nameBase = nameOffsets[size];
+            store.names().get(names, nameBase, store.names.limit());
+            for (int ordinal = 0; ordinal < store.size; ordinal++) {
+                nameOffsets[size + ordinal + 1] = nameBase + store.nameOffsets.get(ordinal + 1);
+            }
+            for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                System.arraycopy(store.startMinutes[dayIndex], 0, startMinutes[dayIndex], size, store.size);
+                System.arraycopy(store.endMinutes[dayIndex], 0, endMinutes[dayIndex], size, store.size);
+            }
+            size += store.size;
+            return this;
+        }
+
+        public Builder setOpenHours(final int ordinal, final int dayIndex, final int startMinute, final int endMinute) {
+            startMinutes[dayIndex][ordinal] = (short) startMinute;
+            endMinutes[dayIndex][ordinal] = (short) endMinute;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public RestaurantStore build() {
+            final short[][] starts = new short[7][];
+            final short[][] ends = new short[7][];
+            for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                starts[dayIndex] = Arrays.copyOf(startMinutes[dayIndex], size);
+                ends[dayIndex] = Arrays.copyOf(endMinutes[dayIndex], size);
+            }
+            return new RestaurantStore(size, CharBuffer.wrap(Arrays.copyOf(names, nameOffsets[size])), IntBuffer.wrap(Arrays.copyOf(nameOffsets, size + 1)), starts, ends);
+        }
+
+        private void ensureRowCapacity(final int rows) {
+            if (rows <= startMinutes[0].length) {
+                return;
+            }
+            final int capacity = Math.max(rows, 2 * startMinutes[0].length);
+            nameOffsets = Arrays.copyOf(nameOffsets, capacity + 1);
+            for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                startMinutes[dayIndex] = Arrays.copyOf(startMinutes[dayIndex], capacity);
+                endMinutes[dayIndex] = Arrays.copyOf(endMinutes[dayIndex], capacity);
+            }
+        }
+
+        private void ensureNameCapacity(final int chars) {
+            if (chars > names.length) {
+                names = Arrays.copyOf(names, Math.max(chars, 2 * names.length));
+            }
+        }
+    }
+}
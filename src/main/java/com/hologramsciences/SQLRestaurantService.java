@@ -1,28 +1,136 @@
 package com.hologramsciences;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import org.apache.commons.lang3.StringUtils;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.h2.jdbcx.JdbcDataSource;
 
+import com.hologramsciences.sql.OpenWeekRangesTrigger;
 import com.hologramsciences.sql.RestaurantRecord;
 
-import static java.time.temporal.ChronoField.MINUTE_OF_DAY;
 
 
 public class SQLRestaurantService {
+    private static final ConnectionPool DEFAULT_CONNECTION_POOL = createDefaultConnectionPool();
+
+    /**
+     *  One range predicate on the open_week_ranges index, both parameters are the WeekTicks tick of the day and time.
+     */
+    private static final String OPEN_RESTAURANTS_QUERY = String.join("\n"
+            , "SELECT DISTINCT r.id, r.name from open_week_ranges w"
+            , "INNER JOIN restaurants r on r.id = w.restaurant_id"
+            , "WHERE w.start_tick_of_week <= ? AND w.end_tick_of_week > ?"
+    );
+
+    private static final int IDS_PER_QUERY = 128;
+
+    private static final String RESTAURANTS_WITH_IDS_QUERY
+            = "select * from restaurants where id in (" + String.join(", ", Collections.nCopies(IDS_PER_QUERY, "?")) + ")";
+
+    private static final String ALL_RESTAURANTS_QUERY = "select id, name from restaurants order by id";
+
+    // the ticks are bound as one array, so batches of any size run the same cached statement
+    private static final String OPEN_RESTAURANTS_AT_TICKS_QUERY = String.join("\n"
+            , "SELECT DISTINCT q.tick_of_week, r.id, r.name from UNNEST(CAST(? AS INTEGER ARRAY)) q(tick_of_week)"
+            , "INNER JOIN open_week_ranges w on w.start_tick_of_week <= q.tick_of_week AND w.end_tick_of_week > q.tick_of_week"
+            , "INNER JOIN restaurants r on r.id = w.restaurant_id"
+    );
+
+    private static final String INSERT_RESTAURANT = "INSERT INTO restaurants (name) VALUES (?)";
+
+    private static final String INSERT_OPEN_HOURS
+            = "INSERT INTO open_hours (restaurant_id, day_of_week, start_time_minute_of_day, end_time_minute_of_day) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_OPEN_WEEK_RANGE
+            = "INSERT INTO open_week_ranges (restaurant_id, start_tick_of_week, end_tick_of_week) VALUES (?, ?, ?)";
+
+    // a range scan of menu_item_counts_count_idx, see schema.sql
+    private static final String MENU_SIZE_QUERY = String.join("\n"
+            , "SELECT r.id, r.name from menu_item_counts c"
+            , "INNER JOIN restaurants r on r.id = c.restaurant_id"
+            , "WHERE c.menu_item_count >= ?"
+    );
+
+    private static final QueryExecutor DEFAULT_QUERY_EXECUTOR = new QueryExecutor(8, 256, Duration.ofSeconds(5), true);
+
+    /**
+     *  Open restaurants only change with the WeekTicks tick, so a full week of results fits in the cache.
+     */
+    public static final int OPEN_RESTAURANTS_CACHE_SIZE = WeekTicks.TICKS_PER_WEEK;
+    public static final Duration OPEN_RESTAURANTS_CACHE_TTL = Duration.ofMinutes(1);
+
+    private final ConnectionPool connectionPool;
+    private final QueryExecutor queryExecutor;
+
+    /**
+     *  Open restaurants by WeekTicks tick, shared with the services built on this one, like JooqRestaurantService.
+     */
+    private final QueryResultCache<Integer, List<RestaurantRecord>> openRestaurantsCache = new QueryResultCache<>(OPEN_RESTAURANTS_CACHE_SIZE, OPEN_RESTAURANTS_CACHE_TTL);
+
+    /**
+     *  Uses a connection pool and query executor shared with every other service created this way.
+     */
+    public SQLRestaurantService() {
+        this(DEFAULT_CONNECTION_POOL);
+    }
 
+    public SQLRestaurantService(final ConnectionPool connectionPool) {
+        this(connectionPool, DEFAULT_QUERY_EXECUTOR);
+    }
+
+    /**
+     *  The async methods run their queries on the query executor.
+     */
+    public SQLRestaurantService(final ConnectionPool connectionPool, final QueryExecutor queryExecutor) {
+        this.connectionPool = connectionPool;
+        this.queryExecutor = queryExecutor;
+    }
+
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public QueryExecutor getQueryExecutor() {
+        return queryExecutor;
+    }
+
+    public ConnectionPool.Metrics getConnectionPoolMetrics() {
+        return connectionPool.getMetrics();
+    }
+
+    public QueryResultCache<Integer, List<RestaurantRecord>> getOpenRestaurantsCache() {
+        return openRestaurantsCache;
+    }
+
+    /**
+     *  Drops cached open hours results. Called by the methods here that change open hours, call it after changing them any other way.
+     */
+    public void invalidateOpenHoursCaches() {
+        openRestaurantsCache.invalidateAll();
+    }
 
     /**
      *
@@ -36,32 +144,51 @@ public class SQLRestaurantService {
      *
      */
     public List<RestaurantRecord> getOpenRestaurants(final DayOfWeek dayOfWeek, final LocalTime localTime) throws SQLException {
-        final String dayOfWeekString = dayOfWeek.toString();
-
-        final DayOfWeek nextDayOfWeek = dayOfWeek.plus(1);
-        final String nextDayOfWeekString = nextDayOfWeek.toString();
-
-        final DayOfWeek previousDayOfWeek = dayOfWeek.minus(1);
-        final String previousDayOfWeekString = previousDayOfWeek.toString();
-
+        return openRestaurantsCache.get(WeekTicks.of(dayOfWeek, localTime), tick -> {
+            return Collections.unmodifiableList(runQueryAndParseRestaurants(OPEN_RESTAURANTS_QUERY, tick, tick));
+        });
+    }
 
-        final Integer minuteOfDay = localTime.get(MINUTE_OF_DAY);
+    /**
+     *
+     *  getOpenRestaurants for the day and time of every one of the localDateTimes, in one query. The results are read-only
+     *  lists, in the order of the localDateTimes, and times in the same half minute of the week share one.
+     *
+     *  Bypasses the open restaurants cache.
+     *
+     */
+    public List<List<RestaurantRecord>> getOpenRestaurantsForLocalDateTimes(final List<LocalDateTime> localDateTimes) throws SQLException {
+        final int[] ticks = new int[localDateTimes.size()];
+        for (int i = 0; i < ticks.length; i++) {
+            ticks[i] = WeekTicks.of(localDateTimes.get(i).getDayOfWeek(), localDateTimes.get(i).toLocalTime());
+        }
+        final Integer[] distinctTicks = Arrays.stream(ticks).sorted().distinct().boxed().toArray(Integer[]::new);
 
-        final String query = String.join("\n"
-                , "SELECT * from restaurants r"
-                , "INNER JOIN open_hours o on o.restaurant_id = r.id"
-                , "WHERE o.day_of_week = ?"
-        );
+        final Map<Integer, List<RestaurantRecord>> openRestaurantsByTick = new HashMap<>();
+        for (final Integer tick : distinctTicks) {
+            openRestaurantsByTick.put(tick, new ArrayList<>());
+        }
+        runOnConnection(connection -> {
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(OPEN_RESTAURANTS_AT_TICKS_QUERY)) {
+                preparedStatement.setArray(1, connection.createArrayOf("INTEGER", distinctTicks));
+
+                try (final ResultSet rs = preparedStatement.executeQuery()) {
+                    while (rs.next()) {
+                        openRestaurantsByTick.get(rs.getInt("tick_of_week")).add(new RestaurantRecord(rs.getLong("id"), rs.getString("name")));
+                    }
+                }
+            }
+        });
 
-        String queryAppended = query;
-        if (localTime.equals(LocalTime.MIDNIGHT) || localTime.isAfter(LocalTime.MIDNIGHT)) {
-            queryAppended += "AND o.start_time_minute_of_day > o.end_time_minute_of_day AND o.end_time_minute_of_day > ? ";
-            return runQueryAndParseRestaurants(queryAppended, previousDayOfWeekString, minuteOfDay);
-        } else {
-            queryAppended += " AND o.start_time_minute_of_day < ? and o.end_time_minute_of_day > ?";
-            return runQueryAndParseRestaurants(queryAppended, dayOfWeekString, minuteOfDay, minuteOfDay);
+        final List<List<RestaurantRecord>> results = new ArrayList<>(ticks.length);
+        for (final int tick : ticks) {
+            results.add(Collections.unmodifiableList(openRestaurantsByTick.get(tick)));
         }
+        return results;
+    }
 
+    public CompletableFuture<List<RestaurantRecord>> getOpenRestaurantsAsync(final DayOfWeek dayOfWeek, final LocalTime localTime) {
+        return queryExecutor.submit(() -> getOpenRestaurants(dayOfWeek, localTime));
     }
 
     /**
@@ -74,38 +201,94 @@ public class SQLRestaurantService {
      *
      */
     public List<RestaurantRecord> getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(final Integer menuSize) throws SQLException {
+        return runQueryAndParseRestaurants(MENU_SIZE_QUERY, menuSize);
+    }
 
+    public CompletableFuture<List<RestaurantRecord>> getRestaurantsWithMenuOfSizeGreaterThanOrEqualToAsync(final Integer menuSize) {
+        return queryExecutor.submit(() -> getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(menuSize));
+    }
 
-        final String query = String.join("\n"
-                , "SELECT r.id, r.name, COUNT(r.id) as CNT from restaurants r"
-                , "INNER JOIN menu_items m on m.restaurant_id = r.id"
-                , "GROUP BY r.id"
-                , "HAVING CNT >= ?"
-        );
 
-        return runQueryAndParseRestaurants(query, menuSize);
+    /**
+     *
+     *  Fetched in chunks of IDS_PER_QUERY ids bound as parameters. The last chunk is padded by repeating its last id,
+     *  so every chunk runs the same cached prepared statement.
+     *
+     */
+    public List<RestaurantRecord> getAllRestaurantRecordsWithIds(final Collection<Long> ids) throws SQLException {
+        final List<RestaurantRecord> results = new ArrayList<>();
+        for (final Long[] chunk : idChunks(ids)) {
+            results.addAll(runQueryAndParseRestaurants(RESTAURANTS_WITH_IDS_QUERY, (Object[]) chunk));
+        }
+        return results;
     }
 
+    /**
+     *  Fetches all chunks in one query executor task, use the Executor overload to spread the chunks over several.
+     */
+    public CompletableFuture<List<RestaurantRecord>> getAllRestaurantRecordsWithIdsAsync(final Collection<Long> ids) {
+        return queryExecutor.submit(() -> getAllRestaurantRecordsWithIds(ids));
+    }
 
-    public List<RestaurantRecord> getAllRestaurantRecordsWithIds(final Collection<Long> ids) throws SQLException {
-        if (ids.isEmpty()) {
-            return Collections.emptyList();
+    /**
+     *  Same as getAllRestaurantRecordsWithIds, with the chunks fetched in parallel on the executor, each on its own pooled connection.
+     */
+    public List<RestaurantRecord> getAllRestaurantRecordsWithIds(final Collection<Long> ids, final Executor executor) throws SQLException {
+        final List<CompletableFuture<List<RestaurantRecord>>> chunkResults = new ArrayList<>();
+        for (final Long[] chunk : idChunks(ids)) {
+            chunkResults.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return runQueryAndParseRestaurants(RESTAURANTS_WITH_IDS_QUERY, (Object[]) chunk);
+                } catch (final SQLException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+
+        final List<RestaurantRecord> results = new ArrayList<>();
+        for (final CompletableFuture<List<RestaurantRecord>> chunkResult : chunkResults) {
+            try {
+                results.addAll(chunkResult.join());
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw (SQLException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    private static List<Long[]> idChunks(final Collection<Long> ids) {
+        final Long[] distinctIds = new LinkedHashSet<>(ids).toArray(new Long[0]);
+        final List<Long[]> chunks = new ArrayList<>();
+        for (int chunkStart = 0; chunkStart < distinctIds.length; chunkStart += IDS_PER_QUERY) {
+            final int chunkEnd = Math.min(chunkStart + IDS_PER_QUERY, distinctIds.length);
+            final Long[] chunk = Arrays.copyOfRange(distinctIds, chunkStart, chunkStart + IDS_PER_QUERY);
+            Arrays.fill(chunk, chunkEnd - chunkStart, IDS_PER_QUERY, distinctIds[chunkEnd - 1]);
+            chunks.add(chunk);
         }
+        return chunks;
+    }
 
-        final String inList = StringUtils.join(ids.stream().map(x -> x.toString()).collect(Collectors.toList()), ",");
-        return runQueryAndParseRestaurants("select * from restaurants where id in (" + inList + ")");
+    /**
+     *  Every restaurant by id, read lazily fetchSize rows at a time, see streamQueryAndParseRestaurants. Close the stream when done.
+     */
+    public Stream<RestaurantRecord> streamAllRestaurantRecords(final int fetchSize) throws SQLException {
+        return streamQueryAndParseRestaurants(ALL_RESTAURANTS_QUERY, fetchSize);
     }
 
+    /**
+     *  Creates the schema, see initializeSchema, loads data.sql into an empty database and rebuilds the tables derived from it.
+     */
     public void initializeDatabase() throws Exception {
+        initializeSchema();
         runOnStatement(statement-> {
-            final String schemaSql = ResourceLoader.readResourceAsString("schema.sql");
-            statement.execute(schemaSql);
-            System.out.println("Done creating schema");
-
             boolean hasData = false;
-            final ResultSet countRS = statement.executeQuery("select count(*) as count from restaurants");
-            while(countRS.next()) {
-                hasData = countRS.getInt("count") > 0;
+            try (final ResultSet countRS = statement.executeQuery("select count(*) as count from restaurants")) {
+                while (countRS.next()) {
+                    hasData = countRS.getInt("count") > 0;
+                }
             }
 
             if (hasData) {
@@ -115,7 +298,182 @@ public class SQLRestaurantService {
                 statement.execute(dataSql);
                 System.out.println("Done inserting data");
             }
+
+            statement.execute(ResourceLoader.readResourceAsString("refresh_open_week_ranges.sql"));
+            statement.execute(ResourceLoader.readResourceAsString("rebuild_menu_item_counts.sql"));
         });
+        invalidateOpenHoursCaches();
+    }
+
+    /**
+     *
+     *  Creates the tables, indexes and triggers that do not exist yet.
+     *
+     *  An existing open_hours table with day names is upgraded to day numbers first, and an existing open_week_ranges
+     *  table of minutes is replaced by one of ticks, rebuilt from open_hours.
+     *
+     */
+    public void initializeSchema() throws SQLException, IOException {
+        final String upgradeSql = ResourceLoader.readResourceAsString("schema_upgrade_day_of_week.sql");
+        final String openWeekRangesUpgradeSql = ResourceLoader.readResourceAsString("schema_upgrade_open_week_ranges.sql");
+        final String schemaSql = ResourceLoader.readResourceAsString("schema.sql");
+        final String menuItemCountsTriggerSql = ResourceLoader.readResourceAsString("menu_item_counts_trigger.sql");
+        final String openWeekRangesTriggerSql = ResourceLoader.readResourceAsString("open_week_ranges_trigger.sql");
+        final String refreshSql = ResourceLoader.readResourceAsString("refresh_open_week_ranges.sql");
+        runOnStatement(statement-> {
+            if (hasTextDayOfWeek(statement)) {
+                statement.execute(upgradeSql);
+                System.out.println("Done upgrading open_hours.day_of_week");
+            }
+            final boolean upgradeOpenWeekRanges = hasMinuteOpenWeekRanges(statement);
+            if (upgradeOpenWeekRanges) {
+                statement.execute(openWeekRangesUpgradeSql);
+            }
+
+            statement.execute(schemaSql);
+            statement.execute(menuItemCountsTriggerSql);
+            statement.execute(openWeekRangesTriggerSql);
+            if (upgradeOpenWeekRanges) {
+                statement.execute(refreshSql);
+                System.out.println("Done upgrading open_week_ranges");
+            }
+            System.out.println("Done creating schema");
+        });
+    }
+
+    /**
+     *
+     *  Bulk loads the restaurants, for instance CSVRestaurantService.getRestaurantStore, with their open hours.
+     *
+     *  Rows are inserted with JDBC batches of batchSize restaurants and their open hours, each batch committed on its own,
+     *  and the restaurant ids are read back from the generated keys. A failing batch is rolled back, earlier batches stay.
+     *
+     *  OpenWeekRangesTrigger is suspended while loading, it would rebuild the ranges of a restaurant once per open hours
+     *  row. The open_week_ranges rows of the new restaurants are computed with WeekTicks.forEachOpenRange instead and go
+     *  in with the same batches.
+     *
+     *  Returns the generated restaurant ids, by ordinal in the store.
+     *
+     */
+    public long[] loadRestaurants(final RestaurantStore restaurants, final int batchSize) throws SQLException, IOException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+        }
+        final long[] ids = new long[restaurants.size()];
+        runOnConnection(connection -> {
+            connection.setAutoCommit(false);
+            try (
+                    final PreparedStatement insertRestaurant = connection.prepareStatement(INSERT_RESTAURANT, new String[]{"ID"});
+                    final PreparedStatement insertOpenHours = connection.prepareStatement(INSERT_OPEN_HOURS);
+                    final PreparedStatement insertOpenWeekRange = connection.prepareStatement(INSERT_OPEN_WEEK_RANGE);
+                    final OpenWeekRangesTrigger.Suspension suspension = OpenWeekRangesTrigger.suspend();
+            ) {
+                for (int batchStart = 0; batchStart < restaurants.size(); batchStart += batchSize) {
+                    final int batchEnd = Math.min(batchStart + batchSize, restaurants.size());
+
+                    for (int ordinal = batchStart; ordinal < batchEnd; ordinal++) {
+                        insertRestaurant.setString(1, restaurants.getName(ordinal));
+                        insertRestaurant.addBatch();
+                    }
+                    insertRestaurant.executeBatch();
+                    try (final ResultSet keys = insertRestaurant.getGeneratedKeys()) {
+                        for (int ordinal = batchStart; ordinal < batchEnd; ordinal++) {
+                            if (!keys.next()) {
+                                throw new SQLException("No generated id for restaurant " + ordinal);
+                            }
+                            ids[ordinal] = keys.getLong(1);
+                        }
+                    }
+
+                    for (int ordinal = batchStart; ordinal < batchEnd; ordinal++) {
+                        for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+                            final int openHours = restaurants.getOpenHours(ordinal, dayIndex);
+                            if (openHours != Restaurant.CLOSED) {
+                                insertOpenHours.setLong(1, ids[ordinal]);
+                                insertOpenHours.setInt(2, dayIndex + 1);
+                                insertOpenHours.setInt(3, openHours >>> 16);
+                                insertOpenHours.setInt(4, openHours & 0xFFFF);
+                                insertOpenHours.addBatch();
+                            }
+                        }
+                    }
+                    insertOpenHours.executeBatch();
+
+                    // ordinal, start tick, end tick
+                    final IntArrayBuilder ranges = new IntArrayBuilder();
+                    for (int ordinal = batchStart; ordinal < batchEnd; ordinal++) {
+                        final int rangeOrdinal = ordinal;
+                        WeekTicks.forEachOpenRange(restaurants.getOpenHours(ordinal), (startTick, endTick) -> {
+                            ranges.add(rangeOrdinal);
+                            ranges.add(startTick);
+                            ranges.add(endTick);
+                        });
+                    }
+                    final int[] rangeRows = ranges.toArray();
+                    for (int i = 0; i < rangeRows.length; i += 3) {
+                        insertOpenWeekRange.setLong(1, ids[rangeRows[i]]);
+                        insertOpenWeekRange.setInt(2, rangeRows[i + 1]);
+                        insertOpenWeekRange.setInt(3, rangeRows[i + 2]);
+                        insertOpenWeekRange.addBatch();
+                    }
+                    insertOpenWeekRange.executeBatch();
+                    connection.commit();
+                }
+            } catch (final SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                invalidateOpenHoursCaches();
+            }
+        });
+        return ids;
+    }
+
+    /**
+     *
+     *  Rebuilds open_week_ranges, which getOpenRestaurants reads, from open_hours in bulk.
+     *
+     *  OpenWeekRangesTrigger keeps the ranges in sync with every write to open_hours, this is for open_hours written
+     *  without the trigger, for instance with it disabled for a bulk load, and to repair the ranges.
+     *
+     */
+    public void refreshOpenWeekRanges() throws SQLException, IOException {
+        final String refreshSql = ResourceLoader.readResourceAsString("refresh_open_week_ranges.sql");
+        runOnStatement(statement -> statement.execute(refreshSql));
+        invalidateOpenHoursCaches();
+    }
+
+    /**
+     *
+     *  Recounts menu_item_counts from menu_items in one statement.
+     *
+     *  MenuItemCountTrigger keeps the counts in sync row by row, this is for databases whose menu_items predate the trigger,
+     *  and to repair the counts in bulk.
+     *
+     */
+    public void rebuildMenuItemCounts() throws SQLException, IOException {
+        final String rebuildSql = ResourceLoader.readResourceAsString("rebuild_menu_item_counts.sql");
+        runOnStatement(statement -> statement.execute(rebuildSql));
+    }
+
+    private static boolean hasMinuteOpenWeekRanges(final Statement statement) throws SQLException {
+        final String query = String.join("\n"
+                , "SELECT COUNT(*) FROM information_schema.columns"
+                , "WHERE table_schema = 'PUBLIC' AND table_name = 'OPEN_WEEK_RANGES' AND column_name = 'START_MINUTE_OF_WEEK'"
+        );
+        try (final ResultSet rs = statement.executeQuery(query)) {
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+
+    private static boolean hasTextDayOfWeek(final Statement statement) throws SQLException {
+        final String query = String.join("\n"
+                , "SELECT data_type FROM information_schema.columns"
+                , "WHERE table_schema = 'PUBLIC' AND table_name = 'OPEN_HOURS' AND column_name = 'DAY_OF_WEEK'"
+        );
+        try (final ResultSet rs = statement.executeQuery(query)) {
+            return rs.next() && !rs.getString("data_type").equals("SMALLINT");
+        }
     }
 
     @FunctionalInterface
@@ -156,40 +514,145 @@ public class SQLRestaurantService {
 
     private List<RestaurantRecord> runQueryAndParseRestaurants(final String query, final Object... parameters) throws SQLException {
         final List<RestaurantRecord> results = new ArrayList<>();
-         runOnConnection(statement-> {
-
-             final PreparedStatement preparedStatement = statement.prepareStatement(query);
-             for (int i = 1; i <= parameters.length; i++) {
-                 preparedStatement.setObject(i, parameters[i-1]);
-             }
-
-             final ResultSet rs = preparedStatement.executeQuery();
-             while (rs.next()) {
-                 results.add(new RestaurantRecord(rs.getLong("id"), rs.getString("name")));
+         runOnConnection(connection -> {
+             try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                 for (int i = 1; i <= parameters.length; i++) {
+                     preparedStatement.setObject(i, parameters[i-1]);
+                 }
+
+                 try (final ResultSet rs = preparedStatement.executeQuery()) {
+                     while (rs.next()) {
+                         results.add(new RestaurantRecord(rs.getLong("id"), rs.getString("name")));
+                     }
+                 }
              }
          });
 
          return results;
     }
 
-    private List<RestaurantRecord> runQueryAndParseRestaurants(final String query) throws SQLException {
-        final List<RestaurantRecord> results = new ArrayList<>();
-         runOnStatement(statement-> {
-            final ResultSet rs = statement.executeQuery(query);
-            while (rs.next()) {
-                results.add(new RestaurantRecord(rs.getLong("id"), rs.getString("name")));
+    /**
+     *
+     *  Lazy version of runQueryAndParseRestaurants: rows are read as the stream is consumed, fetchSize at a time, so
+     *  memory stays bounded however many rows match. The query runs with H2's lazy query execution, so H2 does not
+     *  materialise the result either.
+     *
+     *  The stream holds a pooled connection until it is exhausted or closed, use try-with-resources.
+     *  SQLExceptions while reading are thrown as UncheckedSQLException.
+     *
+     */
+    private Stream<RestaurantRecord> streamQueryAndParseRestaurants(final String query, final int fetchSize, final Object... parameters) throws SQLException {
+        final Connection connection = createConnection();
+        final ResultSet rs;
+        final PreparedStatement preparedStatement;
+        final int defaultFetchSize;
+        try {
+            setLazyQueryExecution(connection, true);
+            preparedStatement = connection.prepareStatement(query);
+            defaultFetchSize = preparedStatement.getFetchSize();
+            preparedStatement.setFetchSize(fetchSize);
+            for (int i = 1; i <= parameters.length; i++) {
+                preparedStatement.setObject(i, parameters[i-1]);
             }
-        });
+            rs = preparedStatement.executeQuery();
+        } catch (final SQLException | RuntimeException e) {
+            try {
+                closeStreamResources(null, null, 0, connection);
+            } catch (final SQLException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
 
-         return results;
+        final Runnable close = () -> {
+            try {
+                closeStreamResources(rs, preparedStatement, defaultFetchSize, connection);
+            } catch (final SQLException e) {
+                throw new UncheckedSQLException(e);
+            }
+        };
+
+        final Spliterator<RestaurantRecord> rows = new Spliterators.AbstractSpliterator<RestaurantRecord>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super RestaurantRecord> action) {
+                try {
+                    if (!rs.isClosed() && rs.next()) {
+                        action.accept(new RestaurantRecord(rs.getLong("id"), rs.getString("name")));
+                        return true;
+                    }
+                } catch (final SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+                // Give the connection back as soon as the rows run out, not only on close.
+                close.run();
+                return false;
+            }
+        };
+        return StreamSupport.stream(rows, false).onClose(close);
     }
 
+    /**
+     *
+     *  Closes the ResultSet itself and restores the fetch size before closing the statement: with a statement cache,
+     *  closing only checks the statement back in, still open, for the next borrower of the connection.
+     *  Safe to call more than once.
+     *
+     */
+    private static void closeStreamResources(final ResultSet rs, final PreparedStatement preparedStatement, final int defaultFetchSize, final Connection connection) throws SQLException {
+        if (connection.isClosed()) {
+            return;
+        }
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+            if (preparedStatement != null) {
+                preparedStatement.setFetchSize(defaultFetchSize);
+                preparedStatement.close();
+            }
+            setLazyQueryExecution(connection, false);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static void setLazyQueryExecution(final Connection connection, final boolean lazy) throws SQLException {
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + lazy);
+        }
+    }
+
+    /**
+     *  Thrown by streams of query results, which cannot throw the checked SQLException.
+     */
+    public static class UncheckedSQLException extends RuntimeException {
+        public UncheckedSQLException(final SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+
+    private Connection createConnection() throws SQLException {
+        return connectionPool.getConnection();
+    }
+
+    private static ConnectionPool createDefaultConnectionPool() {
+        try {
+            return new ConnectionPool(createDataSource(), 1, 8, Duration.ofSeconds(5), Duration.ofMinutes(5), 32);
+        } catch (final SQLException e) {
+            throw new UncheckedSQLException(e);
+        }
+    }
 
-   private Connection createConnection() throws SQLException {
-        JdbcDataSource ds = new JdbcDataSource();
+    public static JdbcDataSource createDataSource() {
+        final JdbcDataSource ds = new JdbcDataSource();
         ds.setURL("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1");
         ds.setUser("sa");
         ds.setPassword("sa");
-        return ds.getConnection();
+        return ds;
     }
 }
@@ -0,0 +1,131 @@
+package com.hologramsciences;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *
+ *  LRU cache of the prepared statements of one physical connection, keyed by SQL text.
+ *
+ *  A cached statement is checked out while in use, so preparing the same SQL twice before closing the first gives two
+ *  statements. Closing a statement handed out by prepare only clears its parameters and puts it back, the statement
+ *  itself is closed when it is evicted or the cache is closed.
+ *
+ *  Like its connection, the cache is used by one thread at a time.
+ *
+ */
+class StatementCache {
+    private final int capacity;
+    private final Map<String, PreparedStatement> statements;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    StatementCache(final int capacity) {
+        this.capacity = capacity;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     *  A statement for the SQL, whose close returns it here. The connection is what the statement reports as its own.
+     */
+    PreparedStatement prepare(final Connection physical, final Connection connection, final String sql) throws SQLException {
+        PreparedStatement statement = statements.remove(sql);
+        if (statement == null || statement.isClosed()) {
+            misses++;
+            statement = physical.prepareStatement(sql);
+        } else {
+            hits++;
+        }
+        return wrap(connection, sql, statement);
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    void resetCounts() {
+        hits = 0;
+        misses = 0;
+    }
+
+    void closeAll() {
+        final List<PreparedStatement> toClose = new ArrayList<>(statements.values());
+        statements.clear();
+        for (final PreparedStatement statement : toClose) {
+            closeQuietly(statement);
+        }
+    }
+
+    private void checkIn(final String sql, final PreparedStatement statement) {
+        try {
+            statement.clearParameters();
+        } catch (final SQLException e) {
+            closeQuietly(statement);
+            return;
+        }
+
+        final PreparedStatement displaced = statements.put(sql, statement);
+        if (displaced != null) {
+            closeQuietly(displaced);
+        }
+        final Iterator<PreparedStatement> eldest = statements.values().iterator();
+        while (statements.size() > capacity) {
+            closeQuietly(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private PreparedStatement wrap(final Connection connection, final String sql, final PreparedStatement statement) {
+        final boolean[] returned = {false};
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned[0]) {
+                        returned[0] = true;
+                        checkIn(sql, statement);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned[0] || statement.isClosed();
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached " + statement;
+                default:
+                    if (returned[0]) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    try {
+                        return method.invoke(statement, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        });
+    }
+
+    private static void closeQuietly(final PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException e) {
+            // the statement is dropped either way
+        }
+    }
+}
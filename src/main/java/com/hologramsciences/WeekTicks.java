@@ -0,0 +1,88 @@
+package com.hologramsciences;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ *
+ *  Time of week measured in half-minute ticks, starting at MONDAY 00:00.
+ *
+ *  Open hours have minute precision, and a restaurant opening at 16:00 is closed at exactly 16:00 but open at 16:00:30,
+ *  so every minute gets two ticks: an even one for the instant the minute starts, and an odd one for the rest of it.
+ *  With that, the open check in Restaurant.isOpen becomes plain half-open [start, end) tick ranges.
+ *
+ */
+public class WeekTicks {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    public static final int TICKS_PER_DAY = 2 * MINUTES_PER_DAY;
+    public static final int TICKS_PER_WEEK = 2 * MINUTES_PER_WEEK;
+
+    @FunctionalInterface
+    public interface RangeConsumer {
+        void accept(final int startTick, final int endTick);
+    }
+
+    public static int of(final DayOfWeek dayOfWeek, final LocalTime localTime) {
+        return 2 * dayIndex(dayOfWeek) * MINUTES_PER_DAY + ofDay(localTime);
+    }
+
+    /**
+     *  The tick counted from the start of the day.
+     */
+    public static int ofDay(final LocalTime localTime) {
+        final boolean onTheMinute = localTime.getSecond() == 0 && localTime.getNano() == 0;
+        return 2 * minuteOfDay(localTime) + (onTheMinute ? 0 : 1);
+    }
+
+    public static DayOfWeek dayOfWeek(final int tick) {
+        return DayOfWeek.of(tick / 2 / MINUTES_PER_DAY + 1);
+    }
+
+    /**
+     *  A time within the tick, odd ticks are represented by the middle of their minute.
+     */
+    public static LocalTime localTime(final int tick) {
+        final int minuteOfDay = tick / 2 % MINUTES_PER_DAY;
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60, tick % 2 == 0 ? 0 : 30);
+    }
+
+    public static int dayIndex(final DayOfWeek dayOfWeek) {
+        return dayOfWeek.getValue() - 1;
+    }
+
+    public static int minuteOfDay(final LocalTime localTime) {
+        return localTime.getHour() * 60 + localTime.getMinute();
+    }
+
+    /**
+     *
+     *  Emits the tick ranges in which a restaurant with the given packed open hours (see Restaurant) is open, mirroring Restaurant.isOpen:
+     *
+     *  - a day's own hours count when startTime < localTime < endTime, so the range starts on the odd tick after startTime
+     *  - when the previous day's hours span midnight, the early hours up to that endTime count as well (from 00:00 inclusive),
+     *    but only if the restaurant has hours for the day itself
+     *
+     *  Ranges of the same restaurant may overlap. refresh_open_week_ranges.sql builds the same ranges in SQL.
+     *
+     */
+    public static void forEachOpenRange(final int[] openHours, final RangeConsumer consumer) {
+        for (int dayIndex = 0; dayIndex < 7; dayIndex++) {
+            if (openHours[dayIndex] == Restaurant.CLOSED) {
+                continue;
+            }
+            final int dayStartMinute = dayIndex * MINUTES_PER_DAY;
+
+            final int previousDay = openHours[(dayIndex + 6) % 7];
+            if (previousDay != Restaurant.CLOSED && Restaurant.spansMidnight(previousDay >>> 16, previousDay & 0xFFFF)) {
+                consumer.accept(2 * dayStartMinute, 2 * (dayStartMinute + (previousDay & 0xFFFF)));
+            }
+
+            final int startMinute = openHours[dayIndex] >>> 16;
+            final int endMinute = openHours[dayIndex] & 0xFFFF;
+            if (startMinute < endMinute) {
+                consumer.accept(2 * (dayStartMinute + startMinute) + 1, 2 * (dayStartMinute + endMinute));
+            }
+        }
+    }
+}
@@ -1,44 +0,0 @@
-/*
- * This file is generated by jOOQ.
- */
-package com.hologramsciences.jooq;
-
-
-import java.util.Arrays;
-import java.util.List;
-
-import org.jooq.Schema;
-import org.jooq.impl.CatalogImpl;
-
-
-/**
- * This class is generated by jOOQ.
- */
-@SuppressWarnings({ "all", "unchecked", "rawtypes" })
-public class DefaultCatalog extends CatalogImpl {
-
-    private static final long serialVersionUID = -1973693958;
-
-    /**
-     * The reference instance of <code>DEFAULT_CATALOG</code>
-     */
-    public static final DefaultCatalog DEFAULT_CATALOG = new DefaultCatalog();
-
-    /**
-     * The schema <code>PUBLIC</code>.
-     */
-    public final Public PUBLIC = Public.PUBLIC;
-
-    /**
-     * No further instances allowed
-     */
-    private DefaultCatalog() {
-        super("");
-    }
-
-    @Override
-    public final List<Schema> getSchemas() {
-        return Arrays.<Schema>asList(
-            Public.PUBLIC);
-    }
-}
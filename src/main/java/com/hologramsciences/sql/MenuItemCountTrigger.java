@@ -0,0 +1,72 @@
+package com.hologramsciences.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.h2.api.Trigger;
+
+/**
+ *
+ *  Row trigger on menu_items keeping menu_item_counts in sync, see schema.sql.
+ *
+ *  Each inserted item adds one to the count of its restaurant, creating the row on the first item, and each deleted
+ *  item takes one off, dropping the row when the count reaches zero so the restaurant can still be deleted.
+ *  An update moving an item to another restaurant does both.
+ *
+ */
+public class MenuItemCountTrigger implements Trigger {
+    // one statement, so concurrent first items of a restaurant cannot both find no row and both insert one
+    private static final String INCREMENT = String.join("\n"
+            , "MERGE INTO menu_item_counts c USING (VALUES (CAST(? AS BIGINT))) v(restaurant_id) ON c.restaurant_id = v.restaurant_id"
+            , "WHEN MATCHED THEN UPDATE SET menu_item_count = c.menu_item_count + 1"
+            , "WHEN NOT MATCHED THEN INSERT (restaurant_id, menu_item_count) VALUES (v.restaurant_id, 1)"
+    );
+    private static final String DECREMENT = "UPDATE menu_item_counts SET menu_item_count = menu_item_count - 1 WHERE restaurant_id = ?";
+    private static final String DELETE_EMPTY = "DELETE FROM menu_item_counts WHERE restaurant_id = ? AND menu_item_count <= 0";
+
+    private int restaurantIdColumn;
+
+    @Override
+    public void init(final Connection connection, final String schemaName, final String triggerName, final String tableName, final boolean before, final int type) throws SQLException {
+        try (final ResultSet columns = connection.getMetaData().getColumns(null, schemaName, tableName, "RESTAURANT_ID")) {
+            if (!columns.next()) {
+                throw new SQLException("No RESTAURANT_ID column on " + schemaName + "." + tableName + " for trigger " + triggerName);
+            }
+            restaurantIdColumn = columns.getInt("ORDINAL_POSITION") - 1;
+        }
+    }
+
+    @Override
+    public void fire(final Connection connection, final Object[] oldRow, final Object[] newRow) throws SQLException {
+        final Object oldRestaurantId = oldRow == null ? null : oldRow[restaurantIdColumn];
+        final Object newRestaurantId = newRow == null ? null : newRow[restaurantIdColumn];
+        if (oldRestaurantId != null && oldRestaurantId.equals(newRestaurantId)) {
+            return;
+        }
+
+        if (newRestaurantId != null) {
+            execute(connection, INCREMENT, newRestaurantId);
+        }
+        if (oldRestaurantId != null) {
+            execute(connection, DECREMENT, oldRestaurantId);
+            execute(connection, DELETE_EMPTY, oldRestaurantId);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void remove() {
+    }
+
+    private static void execute(final Connection connection, final String sql, final Object restaurantId) throws SQLException {
+        try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, restaurantId);
+            statement.executeUpdate();
+        }
+    }
+}
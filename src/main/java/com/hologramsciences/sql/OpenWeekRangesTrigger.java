@@ -0,0 +1,105 @@
+package com.hologramsciences.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.h2.api.Trigger;
+
+/**
+ *
+ *  Row trigger on open_hours keeping open_week_ranges in sync, see schema.sql.
+ *
+ *  The ranges of a day depend on the hours of the previous day as well, so every change rebuilds all ranges of the
+ *  restaurant, with the statements of refresh_open_week_ranges.sql restricted to it.
+ *  An update moving hours to another restaurant rebuilds both.
+ *
+ *  Writers that maintain the ranges themselves, like the bulk loader, suspend the trigger around their statements.
+ *  The embedded database fires triggers on the thread running the statement, so the suspension is per thread.
+ *
+ */
+public class OpenWeekRangesTrigger implements Trigger {
+    private static final String DELETE_RANGES = "DELETE FROM open_week_ranges WHERE restaurant_id = ?";
+
+    private static final String INSERT_OWN_DAY_RANGES = String.join("\n"
+            , "INSERT INTO open_week_ranges (restaurant_id, start_tick_of_week, end_tick_of_week)"
+            , "SELECT restaurant_id, 2 * ((day_of_week - 1) * 1440 + start_time_minute_of_day) + 1, 2 * ((day_of_week - 1) * 1440 + end_time_minute_of_day)"
+            , "FROM open_hours"
+            , "WHERE restaurant_id = ? AND start_time_minute_of_day < end_time_minute_of_day"
+    );
+
+    private static final String INSERT_CARRIED_OVER_RANGES = String.join("\n"
+            , "INSERT INTO open_week_ranges (restaurant_id, start_tick_of_week, end_tick_of_week)"
+            , "SELECT d.restaurant_id, 2 * (d.day_of_week - 1) * 1440, 2 * ((d.day_of_week - 1) * 1440 + p.end_time_minute_of_day)"
+            , "FROM open_hours d"
+            , "INNER JOIN open_hours p ON p.restaurant_id = d.restaurant_id AND p.day_of_week = MOD(d.day_of_week + 5, 7) + 1"
+            , "WHERE d.restaurant_id = ? AND p.start_time_minute_of_day <> 0 AND p.end_time_minute_of_day <> 0"
+            , "AND p.end_time_minute_of_day <= p.start_time_minute_of_day - 60"
+    );
+
+    private static final ThreadLocal<Boolean> SUSPENDED = ThreadLocal.withInitial(() -> false);
+
+    private int restaurantIdColumn;
+
+    /**
+     *  Stops the trigger from firing on this thread until the returned Suspension is closed.
+     */
+    public static Suspension suspend() {
+        final boolean wasSuspended = SUSPENDED.get();
+        SUSPENDED.set(true);
+        return () -> SUSPENDED.set(wasSuspended);
+    }
+
+    public interface Suspension extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    @Override
+    public void init(final Connection connection, final String schemaName, final String triggerName, final String tableName, final boolean before, final int type) throws SQLException {
+        try (final ResultSet columns = connection.getMetaData().getColumns(null, schemaName, tableName, "RESTAURANT_ID")) {
+            if (!columns.next()) {
+                throw new SQLException("No RESTAURANT_ID column on " + schemaName + "." + tableName + " for trigger " + triggerName);
+            }
+            restaurantIdColumn = columns.getInt("ORDINAL_POSITION") - 1;
+        }
+    }
+
+    @Override
+    public void fire(final Connection connection, final Object[] oldRow, final Object[] newRow) throws SQLException {
+        if (SUSPENDED.get()) {
+            return;
+        }
+        final Object oldRestaurantId = oldRow == null ? null : oldRow[restaurantIdColumn];
+        final Object newRestaurantId = newRow == null ? null : newRow[restaurantIdColumn];
+
+        if (newRestaurantId != null) {
+            rebuild(connection, newRestaurantId);
+        }
+        if (oldRestaurantId != null && !oldRestaurantId.equals(newRestaurantId)) {
+            rebuild(connection, oldRestaurantId);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void remove() {
+    }
+
+    private static void rebuild(final Connection connection, final Object restaurantId) throws SQLException {
+        execute(connection, DELETE_RANGES, restaurantId);
+        execute(connection, INSERT_OWN_DAY_RANGES, restaurantId);
+        execute(connection, INSERT_CARRIED_OVER_RANGES, restaurantId);
+    }
+
+    private static void execute(final Connection connection, final String sql, final Object restaurantId) throws SQLException {
+        try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, restaurantId);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- Keeps menu_item_counts in sync with menu_items, run by SQLRestaurantService.initializeSchema after schema.sql.
+-- Kept out of schema.sql since creating the trigger loads its class, which the jOOQ code generator does not have.
+
+CREATE TRIGGER IF NOT EXISTS menu_item_counts_trigger AFTER INSERT, UPDATE, DELETE ON menu_items FOR EACH ROW CALL 'com.hologramsciences.sql.MenuItemCountTrigger';
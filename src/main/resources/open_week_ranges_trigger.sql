@@ -0,0 +1,4 @@
+-- Keeps open_week_ranges in sync with open_hours, run by SQLRestaurantService.initializeSchema after schema.sql.
+-- Kept out of schema.sql since creating the trigger loads its class, which the jOOQ code generator does not have.
+
+CREATE TRIGGER IF NOT EXISTS open_week_ranges_trigger AFTER INSERT, UPDATE, DELETE ON open_hours FOR EACH ROW CALL 'com.hologramsciences.sql.OpenWeekRangesTrigger';
@@ -0,0 +1,6 @@
+-- Rebuilds menu_item_counts from menu_items, run by SQLRestaurantService.rebuildMenuItemCounts.
+
+TRUNCATE TABLE menu_item_counts;
+
+INSERT INTO menu_item_counts (restaurant_id, menu_item_count)
+SELECT restaurant_id, COUNT(*) FROM menu_items GROUP BY restaurant_id;
@@ -0,0 +1,28 @@
+-- Rebuilds open_week_ranges from open_hours, run by SQLRestaurantService.initializeDatabase and refreshOpenWeekRanges.
+-- The ranges are those of WeekTicks.forEachOpenRange, OpenWeekRangesTrigger builds the same ones restaurant by restaurant.
+
+TRUNCATE TABLE open_week_ranges;
+
+-- Each day's own hours, open after the start time and up to the end time, so from the odd tick after the start.
+-- As startTime < localTime < endTime never holds for hours ending at or before their start, those have no range here.
+INSERT INTO open_week_ranges (restaurant_id, start_tick_of_week, end_tick_of_week)
+SELECT
+    restaurant_id,
+    2 * ((day_of_week - 1) * 1440 + start_time_minute_of_day) + 1,
+    2 * ((day_of_week - 1) * 1440 + end_time_minute_of_day)
+FROM open_hours
+WHERE start_time_minute_of_day < end_time_minute_of_day;
+
+-- The early hours of the previous day's hours, from 00:00, on days with hours of their own. Only hours spanning midnight
+-- as in Restaurant.spansMidnight carry over: neither end at 00:00, and ending at least a whole hour before they start.
+-- MOD(day_of_week + 5, 7) + 1 is the previous day, SUNDAY for MONDAY.
+INSERT INTO open_week_ranges (restaurant_id, start_tick_of_week, end_tick_of_week)
+SELECT
+    d.restaurant_id,
+    2 * (d.day_of_week - 1) * 1440,
+    2 * ((d.day_of_week - 1) * 1440 + p.end_time_minute_of_day)
+FROM open_hours d
+INNER JOIN open_hours p ON p.restaurant_id = d.restaurant_id AND p.day_of_week = MOD(d.day_of_week + 5, 7) + 1
+WHERE p.start_time_minute_of_day <> 0
+  AND p.end_time_minute_of_day <> 0
+  AND p.end_time_minute_of_day <= p.start_time_minute_of_day - 60;
@@ -9,7 +9,8 @@ CREATE TABLE IF NOT EXISTS open_hours (
     id                        BIGSERIAL NOT NULL PRIMARY KEY,
     restaurant_id             BIGINT NOT NULL REFERENCES restaurants (id),
 
-    day_of_week               TEXT NOT NULL,
+    -- ISO-8601 day of week, as java.time.DayOfWeek.getValue(): 1 is MONDAY, 7 is SUNDAY
+    day_of_week               SMALLINT NOT NULL,
     start_time_minute_of_day  INTEGER NOT NULL,
     end_time_minute_of_day    INTEGER NOT NULL
 );
@@ -21,3 +22,35 @@ CREATE TABLE IF NOT EXISTS menu_items (
 
     name                      TEXT NOT NULL
 );
+
+CREATE INDEX IF NOT EXISTS open_hours_day_start_end_idx ON open_hours (day_of_week, start_time_minute_of_day, end_time_minute_of_day);
+
+CREATE INDEX IF NOT EXISTS open_hours_restaurant_id_idx ON open_hours (restaurant_id);
+
+CREATE INDEX IF NOT EXISTS menu_items_restaurant_id_idx ON menu_items (restaurant_id);
+
+-- The open_hours of every restaurant as half-open ranges [start, end) of WeekTicks, half minutes counted from MONDAY 00:00,
+-- with the same rules as WeekTicks.forEachOpenRange and CSVRestaurantService.getOpenRestaurants. Built by
+-- refresh_open_week_ranges.sql and kept in sync with open_hours by OpenWeekRangesTrigger, see open_week_ranges_trigger.sql.
+CREATE TABLE IF NOT EXISTS open_week_ranges (
+
+    id                        BIGSERIAL NOT NULL PRIMARY KEY,
+    restaurant_id             BIGINT NOT NULL REFERENCES restaurants (id),
+
+    start_tick_of_week        INTEGER NOT NULL,
+    end_tick_of_week          INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS open_week_ranges_start_end_idx ON open_week_ranges (start_tick_of_week, end_tick_of_week, restaurant_id);
+
+-- Number of menu_items per restaurant, for menu size lookups without grouping menu_items. Restaurants without items have
+-- no row. Kept in sync by MenuItemCountTrigger on every insert, update and delete of menu_items, see
+-- menu_item_counts_trigger.sql, and rebuilt in bulk by rebuild_menu_item_counts.sql.
+CREATE TABLE IF NOT EXISTS menu_item_counts (
+
+    restaurant_id             BIGINT NOT NULL PRIMARY KEY REFERENCES restaurants (id),
+
+    menu_item_count           INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS menu_item_counts_count_idx ON menu_item_counts (menu_item_count, restaurant_id);
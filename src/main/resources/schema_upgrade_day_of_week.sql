@@ -0,0 +1,20 @@
+-- Upgrades open_hours.day_of_week from the day name (TEXT) to the ISO-8601 day number used by schema.sql.
+-- Run by SQLRestaurantService.initializeDatabase, before schema.sql, on databases that still have the TEXT column.
+
+ALTER TABLE open_hours ADD COLUMN day_of_week_number SMALLINT;
+
+UPDATE open_hours SET day_of_week_number = CASE day_of_week
+    WHEN 'MONDAY'    THEN 1
+    WHEN 'TUESDAY'   THEN 2
+    WHEN 'WEDNESDAY' THEN 3
+    WHEN 'THURSDAY'  THEN 4
+    WHEN 'FRIDAY'    THEN 5
+    WHEN 'SATURDAY'  THEN 6
+    WHEN 'SUNDAY'    THEN 7
+END;
+
+ALTER TABLE open_hours DROP COLUMN day_of_week;
+
+ALTER TABLE open_hours ALTER COLUMN day_of_week_number RENAME TO day_of_week;
+
+ALTER TABLE open_hours ALTER COLUMN day_of_week SET NOT NULL;
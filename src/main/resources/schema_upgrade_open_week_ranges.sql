@@ -0,0 +1,4 @@
+-- Drops an open_week_ranges table of minutes, which did not count seconds or follow the CSV rules for hours spanning midnight.
+-- Run by SQLRestaurantService.initializeSchema, before schema.sql creates the table of ticks, which is then refreshed.
+
+DROP TABLE open_week_ranges;
@@ -1,19 +1,41 @@
 package com.hologramsciences;
 
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
 
 public class CSVRestaurantServiceTest {
     private static CSVRestaurantService csvRestaurantService;
@@ -78,8 +100,363 @@ public class CSVRestaurantServiceTest {
         assertTrue((new HashSet<>(lightNightRestaurantNames)).containsAll(expectedNames));
     }
 
+    /**
+     *  The original open check over getOpenHoursMap, kept as the reference for the packed open hours and the indexes.
+     */
+    private static boolean isOpenAccordingToOpenHoursMap(final DayOfWeek dayOfWeek, final LocalTime localTime, final Restaurant restaurant) {
+        if (!restaurant.getOpenHoursMap().containsKey(dayOfWeek)) {
+            return false;
+        }
+        final Restaurant.OpenHours openHours = restaurant.getOpenHoursMap().get(dayOfWeek);
+        final Restaurant.OpenHours openHoursLastDay = restaurant.getOpenHoursMap().get(dayOfWeek.minus(1));
+        if (openHoursLastDay != null && openHoursLastDay.spansMidnight() && openHoursLastDay.getEndTime().isAfter(localTime)) {
+            return true;
+        }
+        return openHours.getStartTime().isBefore(localTime) && openHours.getEndTime().isAfter(localTime);
+    }
+
+    @Test
+    public void getOpenRestaurantsMatchesOpenCheckForEveryTickOfTheWeek() throws IOException {
+        for (final CSVRestaurantService.IndexMode indexMode : CSVRestaurantService.IndexMode.values()) {
+            final CSVRestaurantService service = new CSVRestaurantService(indexMode);
+
+            for (final DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                for (int minuteOfDay = 0; minuteOfDay < WeekTicks.MINUTES_PER_DAY; minuteOfDay++) {
+                    for (final LocalTime localTime : Arrays.asList(LocalTime.of(minuteOfDay / 60, minuteOfDay % 60), LocalTime.of(minuteOfDay / 60, minuteOfDay % 60, 30))) {
+                        final List<Restaurant> expected = service.getAllRestaurants().stream()
+                                .filter(r -> isOpenAccordingToOpenHoursMap(dayOfWeek, localTime, r))
+                                .collect(Collectors.toList());
+
+                        assertEquals(indexMode + " " + dayOfWeek + " " + localTime, expected, service.getOpenRestaurants(dayOfWeek, localTime));
+                        assertEquals(dayOfWeek + " " + localTime, expected, service.getAllRestaurants().stream().filter(r -> r.isOpen(dayOfWeek, localTime)).collect(Collectors.toList()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void indexStatsReportBuildTimeAndSize() throws IOException {
+        final CSVRestaurantService.IndexStats scanStats = new CSVRestaurantService(CSVRestaurantService.IndexMode.SCAN).getIndexStats();
+        final CSVRestaurantService.IndexStats bitmapStats = new CSVRestaurantService(CSVRestaurantService.IndexMode.OPEN_SET_BITMAP).getIndexStats();
 
+        assertEquals(CSVRestaurantService.IndexMode.INTERVAL_TREE, csvRestaurantService.getIndexStats().getIndexMode());
+        assertEquals(0, scanStats.getEstimatedSizeInBytes());
+        assertTrue(bitmapStats.getBuildTimeNanos() > 0 && bitmapStats.getEstimatedSizeInBytes() > 0);
+    }
+
+    @Test
+    public void getOpenRestaurantsExcludesOpeningMinute() {
+        final List<String> atOpening = csvRestaurantService.getOpenRestaurants(DayOfWeek.MONDAY, LocalTime.of(11, 30)).stream().map(Restaurant::getName).collect(Collectors.toList());
+        final List<String> justAfterOpening = csvRestaurantService.getOpenRestaurants(DayOfWeek.MONDAY, LocalTime.of(11, 30, 1)).stream().map(Restaurant::getName).collect(Collectors.toList());
 
+        assertFalse(atOpening.contains("Kushi Tsuru"));
+        assertTrue(justAfterOpening.contains("Kushi Tsuru"));
+    }
+
+    @Test
+    public void openHoursMapRoundTripsThroughPackedOpenHours() {
+        final Map<DayOfWeek, Restaurant.OpenHours> openHoursMap = CSVRestaurantService.parseOpenHour("Mon,Tue|11:00-22:00;Fri,Sat|17:30-02:00");
+        final Restaurant restaurant = new Restaurant("Burger Bar", openHoursMap);
+
+        assertEquals(openHoursMap.keySet(), restaurant.getOpenHoursMap().keySet());
+        assertEquals(LocalTime.of(17, 30), restaurant.getOpenHoursMap().get(DayOfWeek.SATURDAY).getStartTime());
+        assertEquals(LocalTime.of(2, 0), restaurant.getOpenHoursMap().get(DayOfWeek.SATURDAY).getEndTime());
+        assertFalse(restaurant.isOpenOn(WeekTicks.dayIndex(DayOfWeek.SUNDAY)));
+    }
+
+    @Test
+    public void restHoursParserMatchesCommonsCsvParse() throws IOException {
+        final List<Restaurant> parsedWithCommonsCsv = ResourceLoader.parseOptionCSV("rest_hours.csv", CSVRestaurantService::parse);
+        assertEquals(parsedWithCommonsCsv, csvRestaurantService.getAllRestaurants());
+    }
+
+    @Test
+    public void restHoursParserHandlesQuotingAndSkipsRecordsWithoutOpenDays() {
+        final String csv = "\"Bob's \"\"Ghost\"\" Bar\",\"Mon,Tue|11:00-22:00;Tue|9:30-0:00\"\r\n"
+                + "\"Ghost Crepe Cart\"\n"
+                + "\"Bob's Ghost Taco Truck\",\"Mon,Tue,Wed,Thu,Fri|20:00-20:00\"\n"
+                + "Late Spot,\"Fri , Sat | 17:30 - 02:00\",ignored";
+
+        final List<Restaurant> restaurants = RestHoursParser.parse(CharBuffer.wrap(csv)).asList();
+
+        assertEquals(2, restaurants.size());
+        assertEquals("Bob's \"Ghost\" Bar", restaurants.get(0).getName());
+        assertEquals(LocalTime.of(9, 30), restaurants.get(0).getOpenHoursMap().get(DayOfWeek.TUESDAY).getStartTime());
+        assertEquals(LocalTime.MIDNIGHT, restaurants.get(0).getOpenHoursMap().get(DayOfWeek.TUESDAY).getEndTime());
+        assertEquals("Late Spot", restaurants.get(1).getName());
+        assertEquals(CSVRestaurantService.parseOpenHour("Fri,Sat|17:30-02:00").keySet(), restaurants.get(1).getOpenHoursMap().keySet());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void restHoursParserRejectsMalformedTimes() {
+        RestHoursParser.parse(CharBuffer.wrap("\"Burger Bar\",\"Mon|11-22:00\""));
+    }
+
+    @Test
+    public void streamOptionCSVParsesLazily() throws IOException {
+        final List<Restaurant> all = ResourceLoader.parseOptionCSV("rest_hours.csv", CSVRestaurantService::parse);
+
+        try (final Stream<Restaurant> stream = ResourceLoader.streamOptionCSV("rest_hours.csv", CSVRestaurantService::parse)) {
+            assertEquals(all.subList(0, 3), stream.limit(3).collect(Collectors.toList()));
+        }
+
+        final List<String> names = new ArrayList<>();
+        ResourceLoader.forEachOptionCSV("rest_hours.csv", CSVRestaurantService::parse, restaurant -> names.add(restaurant.getName()));
+        assertEquals(all.stream().map(Restaurant::getName).collect(Collectors.toList()), names);
+    }
+
+    @Test
+    public void parseFileInChunksKeepsRowOrder() throws IOException {
+        final String restHours = ResourceLoader.readResourceAsString("rest_hours.csv");
+        final StringBuilder feed = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            feed.append(restHours);
+        }
+        final Path file = Files.createTempFile("rest_hours", ".csv");
+        try {
+            Files.write(file, feed.toString().getBytes(StandardCharsets.UTF_8));
+
+            final List<RestaurantStore> chunks = ResourceLoader.parseFileInChunks(file, 4096, ForkJoinPool.commonPool(), RestHoursParser::parse);
+            final RestaurantStore.Builder merged = new RestaurantStore.Builder();
+            chunks.forEach(merged::addAll);
+
+            assertTrue(chunks.size() > 1);
+            assertEquals(RestHoursParser.parse(CharBuffer.wrap(feed)).asList(), merged.build().asList());
+            assertEquals(50 * csvRestaurantService.getAllRestaurants().size(), new CSVRestaurantService(file, CSVRestaurantService.IndexMode.INTERVAL_TREE).getAllRestaurants().size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void parseFileInChunksFitsLinesUpToTheChunkLimit() throws IOException {
+        final String line = "\"Long Name " + String.join("", Collections.nCopies(40, "x")) + "\",\"Mon-Sun|11:00-22:00\"\n";
+        final Path file = Files.createTempFile("rest_hours", ".csv");
+        try {
+            Files.write(file, (line + line + line).getBytes(StandardCharsets.UTF_8));
+
+            final List<RestaurantStore> chunks = ResourceLoader.parseFileInChunks(file, 1, line.length(), ForkJoinPool.commonPool(), RestHoursParser::parse);
+            assertEquals(3, chunks.size());
+
+            try {
+                ResourceLoader.parseFileInChunks(file, 1, line.length() - 1, ForkJoinPool.commonPool(), RestHoursParser::parse);
+                fail("A line longer than the chunk limit was mapped");
+            } catch (final IOException e) {
+                assertTrue(e.getMessage().contains("No line break"));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void restaurantSnapshotRoundTrips() throws IOException {
+        final Path file = Files.createTempFile("restaurants", ".snapshot");
+        try {
+            RestaurantSnapshot.write(csvRestaurantService.getRestaurantStore(), file);
+            final CSVRestaurantService fromSnapshot = new CSVRestaurantService(RestaurantSnapshot.read(file), CSVRestaurantService.IndexMode.SCAN);
+
+            assertEquals(csvRestaurantService.getAllRestaurants(), fromSnapshot.getAllRestaurants());
+            assertEquals(csvRestaurantService.getOpenRestaurants(DayOfWeek.SUNDAY, LocalTime.of(0, 20)), fromSnapshot.getOpenRestaurants(DayOfWeek.SUNDAY, LocalTime.of(0, 20)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void restaurantSnapshotRejectsOtherFiles() throws IOException {
+        final Path file = Files.createTempFile("rest_hours", ".csv");
+        try {
+            Files.write(file, ResourceLoader.readResourceAsString("rest_hours.csv").getBytes(StandardCharsets.UTF_8));
+            RestaurantSnapshot.read(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void restaurantSnapshotRejectsCorruptHeaders() throws IOException {
+        final Path file = Files.createTempFile("restaurants", ".snapshot");
+        try {
+            RestaurantSnapshot.write(csvRestaurantService.getRestaurantStore(), file);
+            final byte[] snapshot = Files.readAllBytes(file);
+
+            for (final int[] header : new int[][] { { -1, 0 }, { 0, -8 }, { Integer.MAX_VALUE, 0 }, { 1, Integer.MAX_VALUE } }) {
+                final ByteBuffer corrupt = ByteBuffer.wrap(snapshot.clone());
+                corrupt.putInt(8, header[0]).putInt(12, header[1]);
+                Files.write(file, corrupt.array());
+                try {
+                    RestaurantSnapshot.read(file);
+                    fail("Read a snapshot of " + header[0] + " restaurants and " + header[1] + " name chars");
+                } catch (final IOException e) {
+                    assertTrue(e.getMessage().startsWith("Corrupt restaurant snapshot"));
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void reloadSwapsRestaurantsAndIndex() throws Exception {
+        final CSVRestaurantService service = new CSVRestaurantService(CSVRestaurantService.IndexMode.OPEN_SET_BITMAP);
+
+        service.reload(new ByteArrayInputStream("\"Night Owl\",\"Mon,Tue|20:00-03:00\"\n".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Arrays.asList("Night Owl"), service.getOpenRestaurants(DayOfWeek.TUESDAY, LocalTime.of(2, 0)).stream().map(Restaurant::getName).collect(Collectors.toList()));
+
+        final CSVRestaurantService.IndexStats stats = service.reloadAsync(() -> csvRestaurantService.getRestaurantStore(), ForkJoinPool.commonPool()).get();
+        assertEquals(CSVRestaurantService.IndexMode.OPEN_SET_BITMAP, stats.getIndexMode());
+        assertEquals(csvRestaurantService.getAllRestaurants(), service.getAllRestaurants());
+    }
+
+    @Test
+    public void watchReloadsWhenTheFileIsReplaced() throws Exception {
+        final Path directory = Files.createTempDirectory("rest_hours");
+        final Path file = directory.resolve("rest_hours.csv");
+        final Path next = directory.resolve("rest_hours.csv.next");
+        Files.write(file, "\"Early Bird\",\"Mon|06:00-10:00\"\n".getBytes(StandardCharsets.UTF_8));
+
+        final CSVRestaurantService service = new CSVRestaurantService(file, CSVRestaurantService.IndexMode.INTERVAL_TREE);
+        final List<Exception> failures = new CopyOnWriteArrayList<>();
+        try (final Closeable watch = service.watch(file, failures::add)) {
+            Files.write(next, "\"Night Owl\",\"Mon|20:00-23:00\"\n".getBytes(StandardCharsets.UTF_8));
+            Files.move(next, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            final long deadline = System.currentTimeMillis() + 30000;
+            while (!service.getAllRestaurants().get(0).getName().equals("Night Owl") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals("Night Owl", service.getAllRestaurants().get(0).getName());
+            assertTrue(failures.isEmpty());
+
+            Files.write(next, "\"Broken\",\"Mon 20:00-23:00\"\n".getBytes(StandardCharsets.UTF_8));
+            Files.move(next, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            while (failures.isEmpty() && System.currentTimeMillis() < deadline + 30000) {
+                Thread.sleep(50);
+            }
+            assertFalse(failures.isEmpty());
+            assertEquals("Night Owl", service.getAllRestaurants().get(0).getName());
+        } finally {
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void parallelScanMatchesTheSequentialScanOnLargeCatalogs() {
+        final RestaurantStore.Builder builder = new RestaurantStore.Builder();
+        while (builder.size() < 2 * CSVRestaurantService.PARALLEL_THRESHOLD) {
+            builder.addAll(csvRestaurantService.getRestaurantStore());
+        }
+        final RestaurantStore store = builder.build();
+        final CSVRestaurantService scan = new CSVRestaurantService(store, CSVRestaurantService.IndexMode.SCAN);
+        final CSVRestaurantService parallelScan = new CSVRestaurantService(store, CSVRestaurantService.IndexMode.PARALLEL_SCAN);
+
+        for (int tick = 0; tick < WeekTicks.TICKS_PER_WEEK; tick += 2 * 180 + 1) {
+            final DayOfWeek dayOfWeek = WeekTicks.dayOfWeek(tick);
+            final LocalTime localTime = WeekTicks.localTime(tick);
+            assertEquals(dayOfWeek + " " + localTime, scan.getOpenRestaurants(dayOfWeek, localTime), parallelScan.getOpenRestaurants(dayOfWeek, localTime));
+        }
+
+        final OpenHoursScan smallRanges = new OpenHoursScan(csvRestaurantService.getRestaurantStore(), 1);
+        final OpenHoursScan sequential = new OpenHoursScan(csvRestaurantService.getRestaurantStore());
+        for (int tick = 0; tick < WeekTicks.TICKS_PER_WEEK; tick++) {
+            assertTrue("tick " + tick, Arrays.equals(sequential.openOrdinals(tick), smallRanges.openOrdinals(tick)));
+        }
+    }
+
+    /**
+     *  Readers on every core while the restaurants are reloaded back and forth between two orders, every answer must be
+     *  the complete answer for one of them.
+     */
+    @Test
+    public void concurrentQueriesSeeConsistentSnapshots() throws Exception {
+        final RestaurantStore forward = csvRestaurantService.getRestaurantStore();
+        final List<Restaurant> reversedRestaurants = new ArrayList<>(forward.asList());
+        Collections.reverse(reversedRestaurants);
+        final RestaurantStore reversed = RestaurantStore.of(reversedRestaurants);
+
+        final CSVRestaurantService service = new CSVRestaurantService(forward, CSVRestaurantService.IndexMode.INTERVAL_TREE);
+        final CSVRestaurantService reversedService = new CSVRestaurantService(reversed, CSVRestaurantService.IndexMode.INTERVAL_TREE);
+        final int[] ticks = new int[512];
+        final List<List<Restaurant>> expected = new ArrayList<>();
+        final List<List<Restaurant>> expectedReversed = new ArrayList<>();
+        for (int i = 0; i < ticks.length; i++) {
+            ticks[i] = (int) ((long) i * WeekTicks.TICKS_PER_WEEK / ticks.length) + i % 2;
+            expected.add(service.getOpenRestaurants(WeekTicks.dayOfWeek(ticks[i]), WeekTicks.localTime(ticks[i])));
+            expectedReversed.add(reversedService.getOpenRestaurants(WeekTicks.dayOfWeek(ticks[i]), WeekTicks.localTime(ticks[i])));
+        }
+
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final AtomicBoolean reloading = new AtomicBoolean(true);
+        try {
+            final List<Future<Integer>> mismatches = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                final int firstQuery = thread;
+                mismatches.add(executor.submit(() -> {
+                    int mismatchCount = 0;
+                    for (int query = firstQuery; reloading.get(); query++) {
+                        final int i = query % ticks.length;
+                        final List<Restaurant> openRestaurants = service.getOpenRestaurants(WeekTicks.dayOfWeek(ticks[i]), WeekTicks.localTime(ticks[i]));
+                        if (!expected.get(i).equals(openRestaurants) && !expectedReversed.get(i).equals(openRestaurants)) {
+                            mismatchCount++;
+                        }
+                    }
+                    return mismatchCount;
+                }));
+            }
+
+            for (int reload = 0; reload < 200; reload++) {
+                service.reload(reload % 2 == 0 ? reversed : forward);
+            }
+            reloading.set(false);
+            for (final Future<Integer> mismatchCount : mismatches) {
+                assertEquals(0, (int) mismatchCount.get());
+            }
+        } finally {
+            reloading.set(false);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void batchOpenRestaurantsMatchOneQueryPerTime() throws IOException {
+        final List<LocalDateTime> localDateTimes = new ArrayList<>();
+        LocalDateTime localDateTime = LocalDateTime.of(2020, 1, 6, 0, 0);
+        while (localDateTime.isBefore(LocalDateTime.of(2020, 1, 13, 0, 0))) {
+            localDateTimes.add(localDateTime);
+            localDateTimes.add(localDateTime.plusSeconds(30));
+            localDateTime = localDateTime.plusMinutes(7);
+        }
+        localDateTimes.add(LocalDateTime.of(2020, 1, 11, 2, 0));
+        localDateTimes.add(LocalDateTime.of(2020, 1, 4, 2, 0));
+
+        // a dense window starting mid-week, where the sweep starts from the index, and a sparse batch the index answers
+        final List<LocalDateTime> window = new ArrayList<>();
+        for (LocalDateTime time = LocalDateTime.of(2020, 1, 8, 20, 0, 30); time.isBefore(LocalDateTime.of(2020, 1, 9, 3, 0)); time = time.plusSeconds(30)) {
+            window.add(time);
+        }
+        final List<LocalDateTime> sparse = Arrays.asList(LocalDateTime.of(2020, 1, 12, 23, 0), LocalDateTime.of(2020, 1, 6, 0, 30), LocalDateTime.of(2020, 1, 9, 12, 0, 30));
+        // the same window out of order, so the batch is sorted before the sweep and its first time is not the earliest
+        final List<LocalDateTime> shuffledWindow = new ArrayList<>(window);
+        Collections.shuffle(shuffledWindow, new Random(7));
+
+        for (final CSVRestaurantService.IndexMode indexMode : CSVRestaurantService.IndexMode.values()) {
+            final CSVRestaurantService service = new CSVRestaurantService(indexMode);
+            for (final List<LocalDateTime> times : Arrays.asList(localDateTimes, window, sparse, shuffledWindow)) {
+                final List<List<Restaurant>> batch = service.getOpenRestaurantsForLocalDateTimes(times);
+
+                assertEquals(times.size(), batch.size());
+                for (int i = 0; i < times.size(); i++) {
+                    assertEquals(indexMode + " " + times.get(i), service.getOpenRestaurantsForLocalDateTime(times.get(i)), batch.get(i));
+                }
+            }
+        }
+        assertTrue(csvRestaurantService.getOpenRestaurantsForLocalDateTimes(new ArrayList<>()).isEmpty());
+    }
 
     @Test
     public void allRestaurantsHaveGoodOpenHours() {
@@ -0,0 +1,58 @@
+package com.hologramsciences;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void patchesMatchABitSetInEveryContainer() {
+        final Random random = new Random(42);
+        final BitSet runs = new BitSet();
+        runs.set(10, 5000);
+        runs.set(70000, 90000);
+        final BitSet dense = new BitSet();
+        for (int value = 0; value < 3 * 65536; value++) {
+            if (random.nextBoolean()) {
+                dense.set(value);
+            }
+        }
+
+        for (final BitSet initial : Arrays.asList(new BitSet(), runs, dense)) {
+            final BitSet expected = (BitSet) initial.clone();
+            CompressedBitmap bitmap = CompressedBitmap.of(initial);
+            for (int i = 0; i < 20000; i++) {
+                // mostly near the run edges and within the first chunks, so runs grow, merge and split
+                final int value = random.nextInt(4) == 0 ? random.nextInt(3 * 65536) : 4990 + random.nextInt(20);
+                if (random.nextBoolean()) {
+                    expected.set(value);
+                    bitmap = bitmap.with(value);
+                } else {
+                    expected.clear(value);
+                    bitmap = bitmap.without(value);
+                }
+            }
+            assertEquals(expected.cardinality(), bitmap.cardinality());
+            assertEquals(Arrays.toString(expected.stream().toArray()), Arrays.toString(bitmap.toArray()));
+        }
+    }
+
+    @Test
+    public void unchangedSetsAreShared() {
+        final BitSet bits = new BitSet();
+        bits.set(3);
+        bits.set(100000);
+        final CompressedBitmap bitmap = CompressedBitmap.of(bits);
+
+        assertSame(bitmap, bitmap.with(3));
+        assertSame(bitmap, bitmap.without(4));
+        assertSame(bitmap, bitmap.without(1 << 20));
+        assertEquals(0, bitmap.without(3).without(100000).cardinality());
+    }
+}
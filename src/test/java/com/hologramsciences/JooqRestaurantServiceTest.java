@@ -2,23 +2,33 @@ package com.hologramsciences;
 
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.hologramsciences.jooq.tables.records.RestaurantsRecord;
+import com.hologramsciences.sql.RestaurantRecord;
 
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 
 public class JooqRestaurantServiceTest {
     private static final SQLRestaurantService sqlRestaurantService = new SQLRestaurantService();
     private static final JooqRestaurantService jooqRestaurantService = new JooqRestaurantService();
 
+    private static Set<Long> ids(final List<RestaurantsRecord> restaurantsRecords) {
+        return restaurantsRecords.stream().map(RestaurantsRecord::getId).collect(Collectors.toSet());
+    }
+
     @BeforeClass
     public static void initDB() throws Exception {
         sqlRestaurantService.initializeDatabase();
@@ -45,6 +55,90 @@ public class JooqRestaurantServiceTest {
         assertTrue(names.equals(expectedNames));
     }
 
+    @Test
+    public void cachedOpenRestaurantsAreSharedAndCopiedOnEveryCall() throws Exception {
+        final SQLRestaurantService cachedService = new SQLRestaurantService(sqlRestaurantService.getConnectionPool());
+        final JooqRestaurantService first = new JooqRestaurantService(cachedService);
+        final JooqRestaurantService second = new JooqRestaurantService(cachedService);
+
+        final List<RestaurantsRecord> records = first.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0));
+        final String name = records.get(0).getName();
+        records.get(0).setName("Changed by the caller");
+
+        final List<RestaurantsRecord> again = second.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0));
+        assertEquals(name, again.get(0).getName());
+        assertFalse(again.get(0).changed());
+        assertTrue(records.get(0) != again.get(0));
+
+        final QueryResultCache<Integer, List<RestaurantRecord>> cache = cachedService.getOpenRestaurantsCache();
+        assertTrue(cache == first.getOpenRestaurantsCache());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(cachedService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0)).stream().map(RestaurantRecord::getId).collect(Collectors.toSet()), ids(again));
+    }
+
+    @Test
+    public void templateQueriesReuseTheCachedStatement() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 2, Duration.ofSeconds(1), Duration.ofMinutes(1), 8);
+        final JooqRestaurantService pooledService = new JooqRestaurantService(new SQLRestaurantService(connectionPool));
+
+        assertEquals(
+                jooqRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3),
+                pooledService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3)
+        );
+        pooledService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(2);
+        pooledService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(1);
+
+        final ConnectionPool.Metrics metrics = connectionPool.getMetrics();
+        assertEquals(1, metrics.getStatementCacheMisses());
+        assertEquals(2, metrics.getStatementCacheHits());
+        connectionPool.close();
+    }
+
+    @Test
+    public void withDSLContextRunsOnOneConnection() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 2, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        final JooqRestaurantService pooledService = new JooqRestaurantService(new SQLRestaurantService(connectionPool));
+
+        final Object sessionValue = pooledService.withDSLContext(create -> {
+            create.execute("SET @session_value = 42");
+            assertEquals(1, connectionPool.getMetrics().getActive());
+            return create.fetchValue("SELECT @session_value");
+        });
+        assertEquals("42", String.valueOf(sessionValue));
+        assertEquals(0, connectionPool.getMetrics().getActive());
+        connectionPool.close();
+    }
+
+    @Test
+    public void leanFetchesMatchTheRecordFetches() throws Exception {
+        final List<RestaurantsRecord> open = jooqRestaurantService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.MIDNIGHT);
+        assertEquals(ids(open), jooqRestaurantService.getOpenRestaurantRecords(DayOfWeek.SATURDAY, LocalTime.MIDNIGHT).stream()
+                .map(RestaurantRecord::getId)
+                .collect(Collectors.toSet()));
+        assertEquals(ids(open), LongStream.of(jooqRestaurantService.getOpenRestaurantIds(DayOfWeek.SATURDAY, LocalTime.MIDNIGHT)).boxed()
+                .collect(Collectors.toSet()));
+
+        final List<RestaurantsRecord> menu = jooqRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3);
+        assertEquals(ids(menu), jooqRestaurantService.getRestaurantRecordsWithMenuOfSizeGreaterThanOrEqualTo(3).stream()
+                .map(RestaurantRecord::getId)
+                .collect(Collectors.toSet()));
+        assertEquals(ids(menu), LongStream.of(jooqRestaurantService.getRestaurantIdsWithMenuOfSizeGreaterThanOrEqualTo(3)).boxed()
+                .collect(Collectors.toSet()));
+        assertFalse(menu.get(0).changed());
+    }
+
+    @Test
+    public void streamedRecordsMatchTheSQLService() throws Exception {
+        final List<String> expected;
+        try (final Stream<RestaurantRecord> records = sqlRestaurantService.streamAllRestaurantRecords(16)) {
+            expected = records.map(RestaurantRecord::toString).collect(Collectors.toList());
+        }
+        try (final Stream<RestaurantRecord> records = jooqRestaurantService.streamAllRestaurantRecords(16)) {
+            assertEquals(expected, records.map(RestaurantRecord::toString).collect(Collectors.toList()));
+        }
+    }
+
     @Test
     public void getRestaurantWithThreeOrMoreMenuItems() throws Exception {
         final List<RestaurantsRecord> restaurantRecords = jooqRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3);
@@ -0,0 +1,79 @@
+package com.hologramsciences;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+
+public class MutableRestaurantServiceTest {
+
+    @Test
+    public void updatesMatchAFullRebuildAtEveryTick() throws IOException {
+        final RestaurantStore store = new CSVRestaurantService().getRestaurantStore();
+        final MutableRestaurantService mutableRestaurantService = new MutableRestaurantService(store);
+
+        final Map<DayOfWeek, Restaurant.OpenHours> overnight = new EnumMap<>(DayOfWeek.class);
+        overnight.put(DayOfWeek.FRIDAY, new Restaurant.OpenHours(LocalTime.of(20, 0), LocalTime.of(3, 30)));
+        overnight.put(DayOfWeek.SATURDAY, new Restaurant.OpenHours(LocalTime.of(11, 0), LocalTime.of(23, 0)));
+
+        final Map<DayOfWeek, Restaurant.OpenHours> sundayOnly = new EnumMap<>(DayOfWeek.class);
+        sundayOnly.put(DayOfWeek.SUNDAY, new Restaurant.OpenHours(LocalTime.of(9, 0), LocalTime.of(1, 0)));
+        sundayOnly.put(DayOfWeek.MONDAY, new Restaurant.OpenHours(LocalTime.of(0, 0), LocalTime.of(12, 0)));
+
+        mutableRestaurantService.upsertOpenHours(0, overnight);
+        mutableRestaurantService.upsertOpenHours(3, sundayOnly);
+        mutableRestaurantService.upsertOpenHours(3, overnight);
+        mutableRestaurantService.removeRestaurant(5);
+        final int added = mutableRestaurantService.addRestaurant(new Restaurant("Late Night Noodles", sundayOnly));
+
+        assertEquals(store.size(), added);
+        assertNull(mutableRestaurantService.getRestaurant(5));
+
+        final List<Restaurant> expected = new ArrayList<>();
+        for (int ordinal = 0; ordinal <= added; ordinal++) {
+            if (ordinal != 5) {
+                expected.add(mutableRestaurantService.getRestaurant(ordinal));
+            }
+        }
+        assertEquals(expected, mutableRestaurantService.getAllRestaurants());
+
+        final CSVRestaurantService rebuilt = new CSVRestaurantService(RestaurantStore.of(expected), CSVRestaurantService.IndexMode.SCAN);
+        for (int tick = 0; tick < WeekTicks.TICKS_PER_WEEK; tick++) {
+            final DayOfWeek dayOfWeek = WeekTicks.dayOfWeek(tick);
+            final LocalTime localTime = WeekTicks.localTime(tick);
+            assertEquals("tick " + tick, rebuilt.getOpenRestaurants(dayOfWeek, localTime), mutableRestaurantService.getOpenRestaurants(dayOfWeek, localTime));
+        }
+    }
+
+    @Test
+    public void updatesDoNotChangeEarlierReads() {
+        final Map<DayOfWeek, Restaurant.OpenHours> noon = new EnumMap<>(DayOfWeek.class);
+        noon.put(DayOfWeek.MONDAY, new Restaurant.OpenHours(LocalTime.of(11, 0), LocalTime.of(14, 0)));
+
+        final MutableRestaurantService mutableRestaurantService = new MutableRestaurantService();
+        final int ordinal = mutableRestaurantService.addRestaurant(new Restaurant("Lunch Spot", noon));
+        final List<Restaurant> before = mutableRestaurantService.getOpenRestaurants(DayOfWeek.MONDAY, LocalTime.NOON);
+
+        mutableRestaurantService.upsertOpenHours(ordinal, new EnumMap<>(DayOfWeek.class));
+
+        assertEquals(1, before.size());
+        assertTrue(mutableRestaurantService.getOpenRestaurants(DayOfWeek.MONDAY, LocalTime.NOON).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void removedRestaurantsCannotBeUpdated() {
+        final MutableRestaurantService mutableRestaurantService = new MutableRestaurantService();
+        final int ordinal = mutableRestaurantService.addRestaurant(new Restaurant("Gone", new EnumMap<>(DayOfWeek.class)));
+        mutableRestaurantService.removeRestaurant(ordinal);
+        mutableRestaurantService.upsertOpenHours(ordinal, new EnumMap<>(DayOfWeek.class));
+    }
+}
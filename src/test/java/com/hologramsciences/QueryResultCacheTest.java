@@ -0,0 +1,87 @@
+package com.hologramsciences;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+
+public class QueryResultCacheTest {
+
+    @Test
+    public void resultsAreEvictedBySizeAndAge() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final QueryResultCache<Integer, String> cache = new QueryResultCache<>(2, Duration.ofSeconds(10), nanoTime::get);
+
+        assertEquals("1-1", cache.get(1, key -> key + "-" + loads.incrementAndGet()));
+        assertEquals("2-2", cache.get(2, key -> key + "-" + loads.incrementAndGet()));
+        assertEquals("1-1", cache.get(1, key -> key + "-" + loads.incrementAndGet()));
+
+        // 2 is the least recently used
+        assertEquals("3-3", cache.get(3, key -> key + "-" + loads.incrementAndGet()));
+        assertEquals(2, cache.size());
+        assertEquals("2-4", cache.get(2, key -> key + "-" + loads.incrementAndGet()));
+
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals("2-5", cache.get(2, key -> key + "-" + loads.incrementAndGet()));
+
+        cache.invalidateAll();
+        assertEquals("2-6", cache.get(2, key -> key + "-" + loads.incrementAndGet()));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(6, cache.getMissCount());
+    }
+
+    @Test
+    public void concurrentMissesShareOneLoad() throws Exception {
+        final QueryResultCache<Integer, Integer> cache = new QueryResultCache<>(16, Duration.ofMinutes(1));
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger loads = new AtomicInteger();
+
+        final CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> cache.get(7, key -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return loads.incrementAndGet();
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        final CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> cache.get(7, key -> loads.incrementAndGet()));
+        while (cache.getHitCount() == 0) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertEquals(Integer.valueOf(1), first.get(5, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(1), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void failedLoadsAreNotCached() throws Exception {
+        final QueryResultCache<Integer, String> cache = new QueryResultCache<>(16, Duration.ofMinutes(1));
+        try {
+            cache.get(1, key -> {
+                throw new SQLException("database is down");
+            });
+            fail("expected the load to fail");
+        } catch (final SQLException e) {
+            assertEquals("database is down", e.getMessage());
+        }
+
+        assertEquals(0, cache.size());
+        assertEquals("up", cache.get(1, key -> "up"));
+    }
+}
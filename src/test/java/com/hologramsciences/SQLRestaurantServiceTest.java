@@ -1,18 +1,43 @@
 package com.hologramsciences;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.h2.jdbcx.JdbcDataSource;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.hologramsciences.sql.RestaurantRecord;
 
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
 
 public class SQLRestaurantServiceTest {
     private static SQLRestaurantService sqlRestaurantService = new SQLRestaurantService();
@@ -28,6 +53,104 @@ public class SQLRestaurantServiceTest {
         assertTrue(restaurantRecordList.size() > 0);
     }
 
+    @Test
+    public void largeIdListsAreFetchedInChunksOfOneStatement() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 4, Duration.ofSeconds(1), Duration.ofMinutes(1), 8);
+        final SQLRestaurantService pooledService = new SQLRestaurantService(connectionPool);
+
+        final List<Long> ids = new ArrayList<>();
+        for (long id = 300; id >= 1; id--) {
+            ids.add(id);
+            ids.add(id);
+        }
+        final Set<Long> expectedIds = sqlRestaurantService.getAllRestaurantRecordsWithIds(Arrays.asList(28L, 29L)).stream()
+                .map(RestaurantRecord::getId)
+                .collect(Collectors.toSet());
+
+        final List<RestaurantRecord> sequential = pooledService.getAllRestaurantRecordsWithIds(ids);
+        final List<RestaurantRecord> parallel = pooledService.getAllRestaurantRecordsWithIds(ids, ForkJoinPool.commonPool());
+
+        assertEquals(sequential.size(), sequential.stream().map(RestaurantRecord::getId).distinct().count());
+        assertTrue(sequential.stream().map(RestaurantRecord::getId).collect(Collectors.toSet()).containsAll(expectedIds));
+        assertEquals(
+                sequential.stream().map(RestaurantRecord::getId).collect(Collectors.toSet()),
+                parallel.stream().map(RestaurantRecord::getId).collect(Collectors.toSet())
+        );
+        assertTrue(pooledService.getAllRestaurantRecordsWithIds(Collections.emptyList()).isEmpty());
+
+        final ConnectionPool.Metrics metrics = connectionPool.getMetrics();
+        assertEquals(metrics.getCreatedCount(), metrics.getStatementCacheMisses());
+        connectionPool.close();
+    }
+
+    @Test
+    public void streamedRecordsHoldAConnectionOnlyWhileConsumed() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 2, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        final SQLRestaurantService pooledService = new SQLRestaurantService(connectionPool);
+
+        final long count = pooledService.runFunctionOnConnection(connection -> {
+            try (final Statement statement = connection.createStatement(); final ResultSet rs = statement.executeQuery("select count(*) from restaurants")) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        });
+
+        try (final Stream<RestaurantRecord> records = pooledService.streamAllRestaurantRecords(5)) {
+            final Iterator<RestaurantRecord> iterator = records.iterator();
+            assertTrue(iterator.hasNext());
+            assertEquals(1, connectionPool.getMetrics().getActive());
+
+            long streamed = 0;
+            long previousId = Long.MIN_VALUE;
+            while (iterator.hasNext()) {
+                final long id = iterator.next().getId();
+                assertTrue(id > previousId);
+                previousId = id;
+                streamed++;
+            }
+            assertEquals(count, streamed);
+            assertEquals(0, connectionPool.getMetrics().getActive());
+        }
+
+        try (final Stream<RestaurantRecord> records = pooledService.streamAllRestaurantRecords(5)) {
+            assertEquals(3, records.limit(3).count());
+        }
+        assertEquals(0, connectionPool.getMetrics().getActive());
+        connectionPool.close();
+    }
+
+    @Test
+    public void streamsClosedEarlyLeaveNothingOpenOnCachedStatements() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 1, Duration.ofSeconds(1), Duration.ofMinutes(1), 4);
+        final SQLRestaurantService pooledService = new SQLRestaurantService(connectionPool);
+
+        try (final Stream<RestaurantRecord> records = pooledService.streamAllRestaurantRecords(5)) {
+            assertEquals(3, records.limit(3).count());
+        }
+        assertEquals(0, connectionPool.getMetrics().getActive());
+
+        try (final Connection connection = connectionPool.getConnection();
+             final Statement uncached = connection.createStatement();
+             final PreparedStatement statement = connection.prepareStatement("select id, name from restaurants order by id")) {
+            // the statement the stream used, back from the cache
+            final ResultSet previous = statement.getResultSet();
+            assertTrue(previous == null || previous.isClosed());
+            assertEquals(uncached.getFetchSize(), statement.getFetchSize());
+        }
+        assertEquals(1, connectionPool.getMetrics().getStatementCacheHits());
+
+        final long count = pooledService.runFunctionOnConnection(connection -> {
+            try (final Statement statement = connection.createStatement(); final ResultSet rs = statement.executeQuery("select count(*) from restaurants")) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        });
+        try (final Stream<RestaurantRecord> records = pooledService.streamAllRestaurantRecords(5)) {
+            assertEquals(count, records.count());
+        }
+        connectionPool.close();
+    }
+
     @Test
     public void getOpenLate() throws Exception {
         final List<RestaurantRecord> restaurantRecords = sqlRestaurantService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.MIDNIGHT);
@@ -49,6 +172,110 @@ public class SQLRestaurantServiceTest {
         assertTrue(names.equals(expectedNames));
     }
 
+    @Test
+    public void sundayNightHoursWrapIntoMonday() throws Exception {
+        final Set<String> names = sqlRestaurantService.getOpenRestaurants(DayOfWeek.MONDAY, LocalTime.of(0, 30)).stream()
+                .map(RestaurantRecord::getName)
+                .collect(Collectors.toSet());
+        assertTrue(names.toString(), names.contains("Thai Stick Restaurant"));
+        assertFalse(names.toString(), names.contains("Hanuri"));
+    }
+
+    @Test
+    public void openRestaurantsMatchTheCSVServiceAtEveryTick() throws Exception {
+        final CSVRestaurantService csvRestaurantService = new CSVRestaurantService();
+
+        final List<LocalDateTime> localDateTimes = new ArrayList<>();
+        for (int tick = 0; tick < WeekTicks.TICKS_PER_WEEK; tick++) {
+            localDateTimes.add(LocalDateTime.of(LocalDate.of(2020, 1, 6), WeekTicks.localTime(tick)).plusDays(tick / WeekTicks.TICKS_PER_DAY));
+        }
+        final List<List<RestaurantRecord>> batch = sqlRestaurantService.getOpenRestaurantsForLocalDateTimes(localDateTimes);
+
+        for (int tick = 0; tick < WeekTicks.TICKS_PER_WEEK; tick++) {
+            final DayOfWeek dayOfWeek = WeekTicks.dayOfWeek(tick);
+            final LocalTime localTime = WeekTicks.localTime(tick);
+            final List<String> expected = csvRestaurantService.getOpenRestaurants(dayOfWeek, localTime).stream().map(Restaurant::getName).sorted().collect(Collectors.toList());
+
+            assertEquals(dayOfWeek + " " + localTime, expected, sortedNames(sqlRestaurantService.getOpenRestaurants(dayOfWeek, localTime)));
+            assertEquals(dayOfWeek + " " + localTime, expected, sortedNames(batch.get(tick)));
+        }
+    }
+
+    @Test
+    public void openWeekRangesFollowWritesToOpenHours() throws Exception {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:open_hours_writes;DB_CLOSE_DELAY=-1");
+        final ConnectionPool connectionPool = new ConnectionPool(dataSource, 0, 1, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        final SQLRestaurantService writtenService = new SQLRestaurantService(connectionPool);
+        writtenService.initializeSchema();
+
+        writtenService.runOnStatement(statement -> {
+            statement.execute("INSERT INTO restaurants (name) VALUES ('Night Owl')");
+            statement.execute("INSERT INTO open_hours (restaurant_id, day_of_week, start_time_minute_of_day, end_time_minute_of_day) SELECT id, 5, 1200, 210 FROM restaurants");
+            statement.execute("INSERT INTO open_hours (restaurant_id, day_of_week, start_time_minute_of_day, end_time_minute_of_day) SELECT id, 6, 660, 1380 FROM restaurants");
+        });
+        assertEquals(Collections.singleton("Night Owl"), names(writtenService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(3, 29, 59))));
+        assertTrue(writtenService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(3, 30)).isEmpty());
+        assertEquals(openWeekRanges(writtenService), refreshedOpenWeekRanges(writtenService));
+
+        // the early hours only carry over to days with hours of their own
+        writtenService.runOnStatement(statement -> statement.execute("DELETE FROM open_hours WHERE day_of_week = 6"));
+        writtenService.invalidateOpenHoursCaches();
+        assertTrue(writtenService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0)).isEmpty());
+        assertEquals(openWeekRanges(writtenService), refreshedOpenWeekRanges(writtenService));
+
+        writtenService.runOnStatement(statement -> {
+            statement.execute("INSERT INTO open_hours (restaurant_id, day_of_week, start_time_minute_of_day, end_time_minute_of_day) SELECT id, 6, 660, 1380 FROM restaurants");
+            statement.execute("UPDATE open_hours SET day_of_week = day_of_week - 1");
+        });
+        writtenService.invalidateOpenHoursCaches();
+        assertEquals(Collections.singleton("Night Owl"), names(writtenService.getOpenRestaurants(DayOfWeek.FRIDAY, LocalTime.of(2, 0))));
+        assertTrue(writtenService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0)).isEmpty());
+        assertEquals(openWeekRanges(writtenService), refreshedOpenWeekRanges(writtenService));
+        connectionPool.close();
+    }
+
+    @Test
+    public void openRestaurantsAreCachedByTickUntilOpenHoursChange() throws Exception {
+        final SQLRestaurantService cachedService = new SQLRestaurantService(sqlRestaurantService.getConnectionPool());
+        final QueryResultCache<Integer, List<RestaurantRecord>> cache = cachedService.getOpenRestaurantsCache();
+
+        final List<RestaurantRecord> first = cachedService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0, 15));
+        assertTrue(first == cachedService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0, 45)));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cachedService.refreshOpenWeekRanges();
+        assertEquals(0, cache.size());
+        assertEquals(names(first), names(cachedService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0, 15))));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void batchOpenRestaurantsRunInOneQuery() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 2, Duration.ofSeconds(1), Duration.ofMinutes(1), 8);
+        final SQLRestaurantService pooledService = new SQLRestaurantService(connectionPool);
+
+        final List<LocalDateTime> localDateTimes = new ArrayList<>();
+        for (int hour = 0; hour < 7 * 24; hour += 5) {
+            localDateTimes.add(LocalDateTime.of(2020, 1, 6, 0, 30).plusHours(hour));
+        }
+        localDateTimes.add(LocalDateTime.of(2020, 1, 11, 0, 0));
+        localDateTimes.add(LocalDateTime.of(2020, 1, 11, 2, 0));
+        localDateTimes.add(LocalDateTime.of(2020, 1, 11, 2, 0, 30));
+
+        final List<List<RestaurantRecord>> batch = pooledService.getOpenRestaurantsForLocalDateTimes(localDateTimes);
+        assertEquals(1, connectionPool.getMetrics().getAcquireCount());
+
+        assertEquals(localDateTimes.size(), batch.size());
+        for (int i = 0; i < localDateTimes.size(); i++) {
+            final LocalDateTime localDateTime = localDateTimes.get(i);
+            assertEquals(localDateTime.toString(), names(sqlRestaurantService.getOpenRestaurants(localDateTime.getDayOfWeek(), localDateTime.toLocalTime())), names(batch.get(i)));
+        }
+        assertEquals(Collections.singleton("Tim's Nighttime Banana Stand"), names(batch.get(batch.size() - 1)));
+        connectionPool.close();
+    }
+
     @Test
     public void getRestaurantWithThreeOrMoreMenuItems() throws Exception {
         final List<RestaurantRecord> restaurantRecords = sqlRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3);
@@ -56,4 +283,319 @@ public class SQLRestaurantServiceTest {
         final Set<String> expectedNames = Arrays.asList("The Cheesecake Factory", "Shanghai China Restaurant").stream().collect(Collectors.toSet());
         assertTrue(names.equals(expectedNames));
     }
+
+    @Test
+    public void asyncQueriesMatchTheBlockingOnes() throws Exception {
+        final CompletableFuture<List<RestaurantRecord>> open = sqlRestaurantService.getOpenRestaurantsAsync(DayOfWeek.SATURDAY, LocalTime.MIDNIGHT);
+        final CompletableFuture<List<RestaurantRecord>> menu = sqlRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualToAsync(3);
+        final CompletableFuture<List<RestaurantRecord>> byId = sqlRestaurantService.getAllRestaurantRecordsWithIdsAsync(Arrays.asList(28L, 29L));
+
+        assertEquals(names(sqlRestaurantService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.MIDNIGHT)), names(open.get(5, TimeUnit.SECONDS)));
+        assertEquals(names(sqlRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3)), names(menu.get(5, TimeUnit.SECONDS)));
+        assertEquals(names(sqlRestaurantService.getAllRestaurantRecordsWithIds(Arrays.asList(28L, 29L))), names(byId.get(5, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    public void saturatedQueryExecutorRejectsAfterTheSubmitTimeout() throws Exception {
+        final QueryExecutor queryExecutor = new QueryExecutor(1, 1, Duration.ofMillis(50), false);
+        assertFalse(queryExecutor.usesVirtualThreads());
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Boolean> running = queryExecutor.submit(() -> release.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<Boolean> queued = queryExecutor.submit(() -> true);
+        assertEquals(2, queryExecutor.getInFlight());
+
+        try {
+            queryExecutor.submit(() -> true);
+            fail("expected the submit to be rejected");
+        } catch (final RejectedExecutionException e) {
+            // expected
+        }
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertTrue(queryExecutor.submit(() -> true).get(5, TimeUnit.SECONDS));
+
+        try {
+            queryExecutor.submit(() -> {
+                throw new IllegalStateException("failed query");
+            }).get(5, TimeUnit.SECONDS);
+            fail("expected the query failure");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        queryExecutor.close();
+    }
+
+    @Test
+    public void connectionsAreReusedFromThePool() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 2, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        final SQLRestaurantService pooledService = new SQLRestaurantService(connectionPool);
+
+        for (int i = 0; i < 5; i++) {
+            pooledService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3);
+        }
+
+        final ConnectionPool.Metrics metrics = pooledService.getConnectionPoolMetrics();
+        assertEquals(1, metrics.getCreatedCount());
+        assertEquals(5, metrics.getAcquireCount());
+        assertEquals(0, metrics.getActive());
+        assertEquals(1, metrics.getIdle());
+        connectionPool.close();
+    }
+
+    @Test
+    public void poolOpensAndKeepsTheMinimumSize() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 2, 4, Duration.ofSeconds(1), Duration.ofMillis(1));
+        assertEquals(2, connectionPool.getMetrics().getIdle());
+        assertEquals(2, connectionPool.getMetrics().getCreatedCount());
+
+        final Connection connection = connectionPool.getConnection();
+        connection.unwrap(Connection.class).close();
+        connection.close();
+        Thread.sleep(10);
+        connectionPool.getConnection().close();
+
+        final ConnectionPool.Metrics metrics = connectionPool.getMetrics();
+        assertEquals(2, metrics.getIdle());
+        assertEquals(3, metrics.getCreatedCount());
+        assertEquals(0, metrics.getEvictedCount());
+        connectionPool.close();
+    }
+
+    @Test
+    public void returnedConnectionsGetTheirSettingsBack() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 1, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        final int isolation;
+        try (final Connection connection = connectionPool.getConnection()) {
+            isolation = connection.getTransactionIsolation();
+            connection.setReadOnly(true);
+            connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            connection.setSchema("INFORMATION_SCHEMA");
+        }
+        try (final Connection connection = connectionPool.getConnection()) {
+            assertFalse(connection.isReadOnly());
+            assertEquals(isolation, connection.getTransactionIsolation());
+            assertEquals("PUBLIC", connection.getSchema());
+        }
+        assertEquals(1, connectionPool.getMetrics().getCreatedCount());
+        connectionPool.close();
+    }
+
+    @Test
+    public void acquireTimesOutWhenThePoolIsExhausted() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 1, Duration.ofMillis(50), Duration.ofMinutes(1));
+
+        try (final Connection held = connectionPool.getConnection()) {
+            try {
+                connectionPool.getConnection();
+                fail("expected a timeout");
+            } catch (final SQLTimeoutException e) {
+                assertEquals(1, connectionPool.getMetrics().getTimeoutCount());
+            }
+        }
+        try (final Connection reused = connectionPool.getConnection()) {
+            assertTrue(reused.isValid(1));
+        }
+        connectionPool.close();
+    }
+
+    @Test
+    public void brokenAndIdleConnectionsAreEvicted() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 2, Duration.ofSeconds(1), Duration.ofMillis(20));
+
+        final Connection connection = connectionPool.getConnection();
+        connection.unwrap(Connection.class).close();
+        connection.close();
+        assertEquals(0, connectionPool.getMetrics().getIdle());
+
+        connectionPool.getConnection().close();
+        Thread.sleep(50);
+        connectionPool.getConnection().close();
+
+        final ConnectionPool.Metrics metrics = connectionPool.getMetrics();
+        assertEquals(3, metrics.getCreatedCount());
+        assertEquals(1, metrics.getEvictedCount());
+        connectionPool.close();
+    }
+
+    @Test
+    public void preparedStatementsAreCachedPerConnection() throws Exception {
+        final ConnectionPool connectionPool = new ConnectionPool(SQLRestaurantService.createDataSource(), 0, 1, Duration.ofSeconds(1), Duration.ofMinutes(1), 1);
+        final SQLRestaurantService pooledService = new SQLRestaurantService(connectionPool);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, pooledService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3).size());
+        }
+        assertEquals(1, connectionPool.getMetrics().getStatementCacheMisses());
+        assertEquals(2, connectionPool.getMetrics().getStatementCacheHits());
+
+        // A second query evicts the first from the single entry cache.
+        pooledService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0));
+        assertEquals(2, pooledService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3).size());
+        assertEquals(3, connectionPool.getMetrics().getStatementCacheMisses());
+
+        try (final Connection connection = connectionPool.getConnection()) {
+            final PreparedStatement first = connection.prepareStatement("select 1");
+            final PreparedStatement second = connection.prepareStatement("select 1");
+            assertTrue(first != second);
+            first.close();
+            assertTrue(first.isClosed());
+            assertFalse(second.isClosed());
+            second.close();
+        }
+        connectionPool.close();
+    }
+
+    @Test
+    public void openHoursLookupsUseTheIndexes() throws Exception {
+        final String openHoursPlan = explain("SELECT * FROM open_hours WHERE day_of_week = 6 AND start_time_minute_of_day < 600 AND end_time_minute_of_day > 600");
+        assertTrue(openHoursPlan, openHoursPlan.contains("OPEN_HOURS_DAY_START_END_IDX"));
+
+        final String openWeekRangesPlan = explain("SELECT restaurant_id FROM open_week_ranges WHERE start_tick_of_week <= 14640 AND end_tick_of_week > 14640");
+        assertTrue(openWeekRangesPlan, openWeekRangesPlan.contains("OPEN_WEEK_RANGES_START_END_IDX"));
+
+        // H2 may pick the index it creates for the foreign key instead, either way it must not scan the table.
+        final String menuItemsPlan = explain("SELECT * FROM menu_items WHERE restaurant_id = 28");
+        assertTrue(menuItemsPlan, menuItemsPlan.contains(": RESTAURANT_ID = ") && !menuItemsPlan.contains("tableScan"));
+    }
+
+    @Test
+    public void menuSizeLookupsUseTheMaintainedCounts() throws Exception {
+        final String menuItemCountsPlan = explain("SELECT restaurant_id FROM menu_item_counts WHERE menu_item_count >= 3");
+        assertTrue(menuItemCountsPlan, menuItemCountsPlan.contains("MENU_ITEM_COUNTS_COUNT_IDX"));
+
+        final long restaurantId = sqlRestaurantService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0)).get(0).getId();
+        final Set<String> before = names(sqlRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3));
+        sqlRestaurantService.runOnStatement(statement -> {
+            for (int i = 0; i < 3; i++) {
+                statement.executeUpdate("INSERT INTO menu_items (restaurant_id, name) VALUES (" + restaurantId + ", 'Banana " + i + "')");
+            }
+        });
+        try {
+            final Set<String> withBananas = names(sqlRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3));
+            assertTrue(withBananas.toString(), withBananas.contains("Tim's Nighttime Banana Stand"));
+            assertEquals(before.size() + 1, withBananas.size());
+        } finally {
+            sqlRestaurantService.runOnStatement(statement -> statement.executeUpdate("DELETE FROM menu_items WHERE name LIKE 'Banana %'"));
+        }
+        assertEquals(before, names(sqlRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3)));
+
+        sqlRestaurantService.rebuildMenuItemCounts();
+        assertEquals(before, names(sqlRestaurantService.getRestaurantsWithMenuOfSizeGreaterThanOrEqualTo(3)));
+        assertEquals(0L, (long) sqlRestaurantService.runFunctionOnConnection(connection -> {
+            try (final Statement statement = connection.createStatement(); final ResultSet rs = statement.executeQuery(
+                    "SELECT COUNT(*) FROM menu_item_counts c WHERE c.menu_item_count <> (SELECT COUNT(*) FROM menu_items m WHERE m.restaurant_id = c.restaurant_id)"
+            )) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }));
+    }
+
+    @Test
+    public void textDayOfWeekAndMinuteOpenWeekRangesAreUpgraded() throws Exception {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:upgrade;DB_CLOSE_DELAY=-1");
+        final ConnectionPool connectionPool = new ConnectionPool(dataSource, 0, 1, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        final SQLRestaurantService upgradedService = new SQLRestaurantService(connectionPool);
+
+        upgradedService.runOnStatement(statement -> {
+            statement.execute("CREATE TABLE restaurants (id BIGSERIAL NOT NULL PRIMARY KEY, name TEXT)");
+            statement.execute("CREATE TABLE open_hours (id BIGSERIAL NOT NULL PRIMARY KEY, restaurant_id BIGINT NOT NULL REFERENCES restaurants (id),"
+                    + " day_of_week TEXT NOT NULL, start_time_minute_of_day INTEGER NOT NULL, end_time_minute_of_day INTEGER NOT NULL)");
+            statement.execute("INSERT INTO restaurants (name) VALUES ('Friday Fish')");
+            statement.execute("INSERT INTO open_hours (restaurant_id, day_of_week, start_time_minute_of_day, end_time_minute_of_day) SELECT id, 'FRIDAY', 600, 1200 FROM restaurants");
+            statement.execute("CREATE TABLE open_week_ranges (id BIGSERIAL NOT NULL PRIMARY KEY, restaurant_id BIGINT NOT NULL REFERENCES restaurants (id),"
+                    + " start_minute_of_week INTEGER NOT NULL, end_minute_of_week INTEGER NOT NULL)");
+        });
+        upgradedService.initializeDatabase();
+
+        final List<RestaurantRecord> open = upgradedService.getOpenRestaurants(DayOfWeek.SATURDAY, LocalTime.of(2, 0));
+        assertTrue(open.isEmpty());
+        assertEquals(Collections.singleton("Friday Fish"), names(upgradedService.getOpenRestaurants(DayOfWeek.FRIDAY, LocalTime.of(10, 0, 30))));
+        upgradedService.runOnStatement(statement -> {
+            try (final ResultSet rs = statement.executeQuery("SELECT day_of_week FROM open_hours")) {
+                assertTrue(rs.next());
+                assertEquals(5, rs.getInt(1));
+            }
+        });
+        connectionPool.close();
+    }
+
+    @Test
+    public void bulkLoadedRestaurantsAreOpenAccordingToTheirHours() throws Exception {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1");
+        final ConnectionPool connectionPool = new ConnectionPool(dataSource, 0, 1, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        final SQLRestaurantService bulkService = new SQLRestaurantService(connectionPool);
+        bulkService.initializeSchema();
+
+        final RestaurantStore restaurants = new CSVRestaurantService().getRestaurantStore();
+        final long[] ids = bulkService.loadRestaurants(restaurants, 7);
+        assertEquals(restaurants.size(), Arrays.stream(ids).distinct().count());
+        final List<String> loadedRanges = openWeekRanges(bulkService);
+        assertEquals(refreshedOpenWeekRanges(bulkService), loadedRanges);
+
+        final CSVRestaurantService csvRestaurantService = new CSVRestaurantService(restaurants, CSVRestaurantService.IndexMode.SCAN);
+        final Map<Long, Restaurant> restaurantsById = new HashMap<>();
+        for (int ordinal = 0; ordinal < restaurants.size(); ordinal++) {
+            restaurantsById.put(ids[ordinal], restaurants.get(ordinal));
+        }
+
+        for (int tick = 0; tick < WeekTicks.TICKS_PER_WEEK; tick++) {
+            final DayOfWeek dayOfWeek = WeekTicks.dayOfWeek(tick);
+            final LocalTime localTime = WeekTicks.localTime(tick);
+
+            final Set<Restaurant> actual = bulkService.getOpenRestaurants(dayOfWeek, localTime).stream().map(record -> restaurantsById.get(record.getId())).collect(Collectors.toSet());
+            assertEquals(dayOfWeek + " " + localTime, new HashSet<>(csvRestaurantService.getOpenRestaurants(dayOfWeek, localTime)), actual);
+        }
+
+        // the trigger runs again once the load is done
+        bulkService.runFunctionOnConnection(connection -> {
+            try (final Statement statement = connection.createStatement()) {
+                return statement.executeUpdate("DELETE FROM open_hours WHERE restaurant_id = " + ids[0]);
+            }
+        });
+        assertTrue(openWeekRanges(bulkService).stream().noneMatch(range -> range.startsWith(ids[0] + ":")));
+        connectionPool.close();
+    }
+
+    private static Set<String> names(final List<RestaurantRecord> restaurantRecords) {
+        return restaurantRecords.stream().map(RestaurantRecord::getName).collect(Collectors.toSet());
+    }
+
+    private static List<String> sortedNames(final List<RestaurantRecord> restaurantRecords) {
+        return restaurantRecords.stream().map(RestaurantRecord::getName).sorted().collect(Collectors.toList());
+    }
+
+    private static List<String> openWeekRanges(final SQLRestaurantService service) throws Exception {
+        return service.runFunctionOnConnection(connection -> {
+            final List<String> ranges = new ArrayList<>();
+            try (final Statement statement = connection.createStatement(); final ResultSet rs = statement.executeQuery(
+                    "SELECT restaurant_id, start_tick_of_week, end_tick_of_week FROM open_week_ranges ORDER BY restaurant_id, start_tick_of_week, end_tick_of_week"
+            )) {
+                while (rs.next()) {
+                    ranges.add(rs.getLong(1) + ": [" + rs.getInt(2) + ", " + rs.getInt(3) + ")");
+                }
+            }
+            return ranges;
+        });
+    }
+
+    private static List<String> refreshedOpenWeekRanges(final SQLRestaurantService service) throws Exception {
+        service.refreshOpenWeekRanges();
+        return openWeekRanges(service);
+    }
+
+    private static String explain(final String query) throws Exception {
+        return sqlRestaurantService.runFunctionOnConnection(connection -> {
+            try (final Statement statement = connection.createStatement(); final ResultSet rs = statement.executeQuery("EXPLAIN " + query)) {
+                rs.next();
+                return rs.getString(1);
+            }
+        });
+    }
 }